@@ -0,0 +1,130 @@
+package com.example.linkcargo.benchmark;
+
+import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.forwarding.Forwarding;
+import com.example.linkcargo.domain.port.Port;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationStatus;
+import com.example.linkcargo.domain.schedule.PortType;
+import com.example.linkcargo.domain.schedule.Schedule;
+import com.example.linkcargo.domain.user.User;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 데이터. 실행마다 같은 값이 나오도록 고정 시드를 사용한다.
+ */
+final class BenchmarkFixtures {
+
+    static final int EXCHANGE_RATE = 1320;
+    static final int FREIGHT_COST = 10;
+    static final long SCHEDULE_ID = 1L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Cargo> cargos(int count) {
+        Random random = new Random(42);
+        List<Cargo> cargos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int quantityPerBox = 1 + random.nextInt(20);
+            Cargo cargo = Cargo.builder()
+                .id("cargo-" + i)
+                .userId(1L)
+                .exportPortId(1L)
+                .importPortId(2L)
+                .incoterms("CIF")
+                .revision(0L)
+                .cargoInfo(Cargo.CargoInfo.builder()
+                    .productName("product-" + i)
+                    .totalQuantity(quantityPerBox * (1 + random.nextInt(200)))
+                    .quantityPerBox(quantityPerBox)
+                    .boxSize(Cargo.BoxSize.builder()
+                        .width(BigDecimal.valueOf(100 + random.nextInt(900), 3))
+                        .height(BigDecimal.valueOf(100 + random.nextInt(900), 3))
+                        .depth(BigDecimal.valueOf(100 + random.nextInt(900), 3))
+                        .build())
+                    .weight(BigDecimal.valueOf(1 + random.nextInt(50)))
+                    .value(BigDecimal.valueOf(1000 + random.nextInt(1_000_000)))
+                    .build())
+                .build();
+            cargo.refreshDerivedMetrics(EXCHANGE_RATE);
+            cargos.add(cargo);
+        }
+        return cargos;
+    }
+
+    static Schedule schedule() {
+        return Schedule.builder()
+            .id(SCHEDULE_ID)
+            .exportPort(Port.builder().id(1L).name("BUSAN").type(PortType.EXPORT).build())
+            .importPort(Port.builder().id(2L).name("LOS ANGELES").type(PortType.IMPORT).build())
+            .carrier("CARRIER")
+            .vessel("VESSEL")
+            .transitTime(14)
+            .build();
+    }
+
+    static Quotation consignorQuotation(List<Cargo> cargos) {
+        return Quotation.builder()
+            .id("quotation-0")
+            .consignorId("1")
+            .quotationStatus(QuotationStatus.BASIC_INFO)
+            .freight(Quotation.Freight.builder().scheduleId(String.valueOf(SCHEDULE_ID)).build())
+            .cost(Quotation.Cost.builder().cargoIds(cargos.stream().map(Cargo::getId).toList()).build())
+            .build();
+    }
+
+    static List<Quotation> forwarderQuotations(String originalQuotationId, int count) {
+        Random random = new Random(7);
+        List<Quotation> quotations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            quotations.add(Quotation.builder()
+                .id("forwarder-quotation-" + i)
+                .forwarderId(String.valueOf(forwarderUserId(i)))
+                .consignorId("1")
+                .originalQuotationId(originalQuotationId)
+                .quotationStatus(QuotationStatus.DETAIL_INFO)
+                .freight(Quotation.Freight.builder().scheduleId(String.valueOf(SCHEDULE_ID)).build())
+                .cost(Quotation.Cost.builder()
+                    .chargeExport(Quotation.ChargeExport.builder()
+                        .THC(teu(random))
+                        .CIC(teu(random))
+                        .DO_FEE(teu(random))
+                        .HANDLING_FEE(teu(random))
+                        .CFS_CHARGE(teu(random))
+                        .LIFT_STATUS(teu(random))
+                        .CUSTOMS_CLEARANCE_FEE(teu(random))
+                        .WARFAGE_FEE(teu(random))
+                        .TRUCKING(teu(random))
+                        .build())
+                    .totalCost(BigDecimal.valueOf(1_000_000 + random.nextInt(9_000_000), 2))
+                    .build())
+                .build());
+        }
+        return quotations;
+    }
+
+    static User forwarder(int index) {
+        return User.builder()
+            .id(forwarderUserId(index))
+            .firstName("first-" + index)
+            .lastName("last-" + index)
+            .companyName("firm-" + index)
+            .forwarding(Forwarding.builder().id((long) index).firmName("firm-" + index).build())
+            .build();
+    }
+
+    static long forwarderUserId(int index) {
+        return 1000L + index;
+    }
+
+    private static Quotation.TEU teu(Random random) {
+        return Quotation.TEU.builder()
+            .unit("CBM")
+            .LCL(BigDecimal.valueOf(10_000 + random.nextInt(200_000), 1))
+            .build();
+    }
+}
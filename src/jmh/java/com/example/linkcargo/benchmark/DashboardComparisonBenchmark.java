@@ -0,0 +1,109 @@
+package com.example.linkcargo.benchmark;
+
+import com.example.linkcargo.domain.cargo.CargoRepository;
+import com.example.linkcargo.domain.dashboard.DashboardService;
+import com.example.linkcargo.domain.dashboard.QuotationComparison;
+import com.example.linkcargo.domain.dashboard.QuotationComparisonRepository;
+import com.example.linkcargo.domain.dashboard.QuotationComparisonService;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationCompareResponse;
+import com.example.linkcargo.domain.forwarding.ForwardingRepository;
+import com.example.linkcargo.domain.port.PortRepository;
+import com.example.linkcargo.domain.prediction.PredictionIndexService;
+import com.example.linkcargo.domain.prediction.PredictionRepository;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationRepository;
+import com.example.linkcargo.domain.quotation.QuotationRevisionAssembler;
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.example.linkcargo.domain.user.User;
+import com.example.linkcargo.domain.user.UserRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 대시보드 견적서 비교 벤치마크. 포워더 견적서 수에 따라 비교표 문서를 읽고 포워더, 스케줄 정보를 붙이는 비용
+ * (getQuotationsForComparing)과 비교 항목을 처음부터 만드는 비용(createComparisonEntries)을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardComparisonBenchmark {
+
+    private static final String QUOTATION_ID = "quotation-0";
+
+    @Param({"5", "50", "500"})
+    private int quotationCount;
+
+    private List<Quotation> quotations;
+    private QuotationComparisonService quotationComparisonService;
+    private DashboardService dashboardService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        quotations = BenchmarkFixtures.forwarderQuotations(QUOTATION_ID, quotationCount);
+
+        List<User> forwarders = IntStream.range(0, quotationCount)
+            .mapToObj(BenchmarkFixtures::forwarder)
+            .toList();
+        UserRepository userRepository = InMemoryRepository.<UserRepository, Long>of(UserRepository.class)
+            .query("findAllWithForwardingByIdIn", args -> forwarders)
+            .build();
+
+        QuotationRepository quotationRepository = InMemoryRepository.<QuotationRepository, String>of(QuotationRepository.class)
+            .query("findQuotationsByOriginalQuotationIdAndQuotationStatus", args -> quotations)
+            .build();
+        ScheduleRepository scheduleRepository = InMemoryRepository.<ScheduleRepository, Long>of(ScheduleRepository.class)
+            .query("findAllWithPortsByIdIn", args -> List.of(BenchmarkFixtures.schedule()))
+            .build();
+        InMemoryRepository<QuotationComparisonRepository, String> comparisonRepository
+            = InMemoryRepository.of(QuotationComparisonRepository.class);
+
+        quotationComparisonService = new QuotationComparisonService(
+            comparisonRepository.build(), quotationRepository, scheduleRepository, userRepository,
+            new QuotationRevisionAssembler(quotationRepository), null);
+        comparisonRepository.save(QUOTATION_ID, QuotationComparison.builder()
+            .id(QUOTATION_ID)
+            .complete(true)
+            .entries(quotationComparisonService.createEntries(quotations))
+            .build());
+
+        dashboardService = new DashboardService(
+            quotationRepository,
+            InMemoryRepository.<CargoRepository, String>of(CargoRepository.class).build(),
+            scheduleRepository,
+            InMemoryRepository.<ForwardingRepository, Long>of(ForwardingRepository.class).build(),
+            new PredictionIndexService(
+                InMemoryRepository.<PredictionRepository, Long>of(PredictionRepository.class).build(), null),
+            InMemoryRepository.<PortRepository, Long>of(PortRepository.class).build(),
+            null,
+            null,
+            quotationComparisonService,
+            null,
+            null);
+    }
+
+    @Benchmark
+    public DashboardQuotationCompareResponse getQuotationsForComparing() {
+        return dashboardService.getQuotationsForComparing(QUOTATION_ID);
+    }
+
+    @Benchmark
+    public List<QuotationComparison.Entry> createComparisonEntries() {
+        return quotationComparisonService.createEntries(quotations);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.linkcargo.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 Spring Data 리포지토리 대역. findById, findAllById 는 Map 에서 조회하고, 그 외 쿼리 메서드는 이름으로 등록한 함수로
+ * 응답한다. 등록되지 않은 메서드를 호출하면 UnsupportedOperationException 을 던진다.
+ */
+final class InMemoryRepository<T, ID> {
+
+    private final Class<T> repositoryType;
+    private final Map<ID, Object> entities = new HashMap<>();
+    private final Map<String, Function<Object[], Object>> queries = new HashMap<>();
+
+    private InMemoryRepository(Class<T> repositoryType) {
+        this.repositoryType = repositoryType;
+    }
+
+    static <T, ID> InMemoryRepository<T, ID> of(Class<T> repositoryType) {
+        return new InMemoryRepository<>(repositoryType);
+    }
+
+    InMemoryRepository<T, ID> save(ID id, Object entity) {
+        entities.put(id, entity);
+        return this;
+    }
+
+    InMemoryRepository<T, ID> query(String methodName, Function<Object[], Object> query) {
+        queries.put(methodName, query);
+        return this;
+    }
+
+    T build() {
+        InvocationHandler handler = (proxy, method, args) -> invoke(method, args);
+        return repositoryType.cast(Proxy.newProxyInstance(
+            repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, handler));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invoke(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "findById":
+                return Optional.ofNullable(entities.get((ID) args[0]));
+            case "findAllById":
+                return ((Iterable<ID>) args[0]) instanceof List<?> ids
+                    ? ids.stream().map(entities::get).filter(entity -> entity != null).toList()
+                    : List.of();
+            case "toString":
+                return "InMemoryRepository<" + repositoryType.getSimpleName() + ">";
+            case "hashCode":
+                return System.identityHashCode(this);
+            case "equals":
+                return args[0] == this;
+            default:
+                Function<Object[], Object> query = queries.get(method.getName());
+                if (query == null) {
+                    throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+                }
+                return query.apply(args);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.linkcargo.benchmark;
+
+import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.cargo.CargoDerivedMetricsWriter;
+import com.example.linkcargo.domain.cargo.CargoRepository;
+import com.example.linkcargo.domain.exchange.StubExchangeRateProvider;
+import com.example.linkcargo.domain.quotation.CostCalculationKernel;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationCalculationService;
+import com.example.linkcargo.domain.quotation.QuotationCalculationService.CargoBaseInfo;
+import com.example.linkcargo.domain.quotation.QuotationCalculationService.QuotationDomesticExpense;
+import com.example.linkcargo.domain.quotation.QuotationCalculationService.QuotationOverseaExpense;
+import com.example.linkcargo.domain.quotation.QuotationCostCache;
+import com.example.linkcargo.domain.quotation.QuotationCostMetrics;
+import com.example.linkcargo.domain.quotation.QuotationRepository;
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.example.linkcargo.domain.schedule.ScheduleRoute;
+import com.example.linkcargo.domain.schedule.ScheduleRouteCache;
+import com.example.linkcargo.domain.tariff.RateCard;
+import com.example.linkcargo.domain.tariff.TariffRepository;
+import com.example.linkcargo.domain.tariff.TariffService;
+import com.example.linkcargo.domain.tariff.TariffVersionSequenceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 견적 비용 계산 벤치마크. 리포지토리는 메모리 대역을 사용하므로 DB 왕복을 제외한 계산 비용만 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuotationCalculationBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int cargoCount;
+
+    private QuotationCalculationService quotationCalculationService;
+    private QuotationCostCache quotationCostCache;
+    private List<Cargo> cargos;
+    private Quotation quotation;
+    private BigDecimal totalCBM;
+    private QuotationDomesticExpense domesticExpense;
+    private BigDecimal incotermsFOB;
+    private int totalExportQuantity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cargos = BenchmarkFixtures.cargos(cargoCount);
+        quotation = BenchmarkFixtures.consignorQuotation(cargos);
+
+        InMemoryRepository<CargoRepository, String> cargoRepository = InMemoryRepository.of(CargoRepository.class);
+        cargos.forEach(cargo -> cargoRepository.save(cargo.getId(), cargo));
+        cargoRepository.query("findRevisionsByIdIn", args -> cargos);
+
+        quotationCostCache = new QuotationCostCache(new SimpleMeterRegistry(), 10_000);
+        quotationCalculationService = new QuotationCalculationService(
+            InMemoryRepository.<QuotationRepository, String>of(QuotationRepository.class)
+                .save(quotation.getId(), quotation)
+                .build(),
+            cargoRepository.build(),
+            new ScheduleRouteCache(InMemoryRepository.<ScheduleRepository, Long>of(ScheduleRepository.class)
+                .query("findRoutesByIdIn", args -> List.of(new ScheduleRoute(BenchmarkFixtures.SCHEDULE_ID,
+                    BenchmarkFixtures.schedule().getExportPort().getId(),
+                    BenchmarkFixtures.schedule().getImportPort().getId())))
+                .build(), new SimpleMeterRegistry(), 1_000, 600_000, 1_000),
+            new StubExchangeRateProvider(BenchmarkFixtures.EXCHANGE_RATE),
+            new TariffService(InMemoryRepository.<TariffRepository, Long>of(TariffRepository.class).build(),
+                // 벤치마크는 요율표를 배포하지 않는다
+                InMemoryRepository.<TariffVersionSequenceRepository, Long>of(TariffVersionSequenceRepository.class)
+                    .build(), null),
+            quotationCostCache,
+            new QuotationCostMetrics(new SimpleMeterRegistry(), false),
+            // 화물 파생 지표가 벤치마크 환율 기준으로 최신이므로 저장할 일이 없다
+            new CargoDerivedMetricsWriter(null));
+
+        List<CargoBaseInfo> cargoBaseInfos = quotationCalculationService.processCargos(cargos,
+            BenchmarkFixtures.EXCHANGE_RATE);
+        totalCBM = cargoBaseInfos.stream()
+            .map(CargoBaseInfo::getTotalCBM)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        totalExportQuantity = cargoBaseInfos.stream()
+            .map(CargoBaseInfo::getTotalExportQuantity)
+            .reduce(0, Integer::sum);
+        domesticExpense = quotationCalculationService.calculateDomesticExpense(totalCBM,
+            BenchmarkFixtures.EXCHANGE_RATE, RateCard.DEFAULT);
+        incotermsFOB = domesticExpense.getTotalDomesticExpenses()
+            .subtract(domesticExpense.getAMForAFS())
+            .add(cargoBaseInfos.stream()
+                .map(CargoBaseInfo::getTotalAmountInForeignCurrency)
+                .reduce(BigDecimal.ZERO, BigDecimal::add))
+            .divide(BigDecimal.valueOf(totalExportQuantity), 2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public List<CargoBaseInfo> processCargos() {
+        return quotationCalculationService.processCargos(cargos, BenchmarkFixtures.EXCHANGE_RATE);
+    }
+
+    @Benchmark
+    public QuotationDomesticExpense calculateDomesticExpense() {
+        return quotationCalculationService.calculateDomesticExpense(totalCBM, BenchmarkFixtures.EXCHANGE_RATE,
+            RateCard.DEFAULT);
+    }
+
+    @Benchmark
+    public QuotationOverseaExpense calculateOverseaExpense() {
+        return quotationCalculationService.calculateOverseaExpense(totalCBM, domesticExpense.getAMForAFS(),
+            totalExportQuantity, incotermsFOB, "CIF", BenchmarkFixtures.FREIGHT_COST, RateCard.DEFAULT);
+    }
+
+    // 견적서 조회, 화물 수정 횟수 조회, 비용 캐시 조회를 포함한 전체 경로 (반복 호출이므로 캐시 적중 경로)
+    @Benchmark
+    public BigDecimal calculateTotalCostCacheHit() {
+        return quotationCalculationService.calculateTotalCost(quotation, BenchmarkFixtures.FREIGHT_COST,
+            BenchmarkFixtures.EXCHANGE_RATE);
+    }
+
+    // 같은 전체 경로에서 비용 캐시가 비어 있는 경우 (화물 조회와 계산을 매번 수행)
+    @Benchmark
+    public BigDecimal calculateTotalCostCacheMiss(EmptyCostCache emptyCostCache) {
+        return quotationCalculationService.calculateTotalCost(quotation, BenchmarkFixtures.FREIGHT_COST,
+            BenchmarkFixtures.EXCHANGE_RATE);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalCostBigDecimalKernel() {
+        return quotationCalculationService.calculateTotalCost(cargos, BenchmarkFixtures.FREIGHT_COST,
+            BenchmarkFixtures.EXCHANGE_RATE, RateCard.DEFAULT, CostCalculationKernel.BIG_DECIMAL);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalCostFixedPointKernel() {
+        return quotationCalculationService.calculateTotalCost(cargos, BenchmarkFixtures.FREIGHT_COST,
+            BenchmarkFixtures.EXCHANGE_RATE, RateCard.DEFAULT, CostCalculationKernel.FIXED_POINT);
+    }
+
+    /**
+     * 호출마다 비용 캐시에서 벤치마크 견적서 항목을 제거한다. Caffeine 은 크기 0 캐시도 제거를 비동기로 처리해 적중이 섞이므로
+     * 측정 밖(Level.Invocation)에서 직접 제거한다.
+     */
+    @State(Scope.Thread)
+    public static class EmptyCostCache {
+
+        @Setup(Level.Invocation)
+        public void invalidate(QuotationCalculationBenchmark benchmark) {
+            benchmark.quotationCostCache.invalidateCargo(benchmark.cargos.get(0).getId());
+        }
+    }
+}
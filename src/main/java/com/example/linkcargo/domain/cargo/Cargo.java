@@ -5,16 +5,20 @@ import com.example.linkcargo.domain.cargo.dto.request.CargoRequest;
 import com.example.linkcargo.domain.port.Port;
 import com.example.linkcargo.global.entity.MongoBaseEntity;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "cargos")
+@CompoundIndex(name = "user_updated_at", def = "{'userId': 1, 'updated_at': -1}") // 내 화물 목록 (수정일 정렬 페이징)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,6 +26,9 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Builder
 public class Cargo extends MongoBaseEntity {
 
+    // 파생 지표 계산 방식이 바뀌면 올려서 저장된 값을 무효화한다
+    public static final int DERIVED_METRICS_VERSION = 1;
+
     @Id
     private String id;
     private Long userId;
@@ -33,6 +40,10 @@ public class Cargo extends MongoBaseEntity {
 
     private CargoInfo cargoInfo;
 
+    private Long revision; // 화물 정보 변경 횟수
+
+    private DerivedMetrics derivedMetrics; // 저장 시점에 계산된 파생 지표
+
 
     @Getter
     @Setter
@@ -63,6 +74,78 @@ public class Cargo extends MongoBaseEntity {
         private BigDecimal depth;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class DerivedMetrics {
+
+        private Integer version; // 계산 방식 버전
+        private Integer totalBoxQuantity; // 총 박스 수량
+        private BigDecimal cbmPerBox; // 박스 당 CBM
+        private BigDecimal totalCbm; // 총 CBM
+        private Integer exchangeRate; // 외화 환산에 사용된 환율
+        private BigDecimal unitPriceInForeignCurrency; // 외화 환산 단가
+        private BigDecimal totalAmountInForeignCurrency; // 외화 환산 총액
+
+        private static DerivedMetrics ofGeometry(CargoInfo cargoInfo) {
+            int totalBoxQuantity = cargoInfo.getTotalQuantity() / cargoInfo.getQuantityPerBox();
+            BigDecimal cbmPerBox = cargoInfo.getBoxSize().getWidth()
+                .multiply(cargoInfo.getBoxSize().getHeight())
+                .multiply(cargoInfo.getBoxSize().getDepth());
+
+            return DerivedMetrics.builder()
+                .version(DERIVED_METRICS_VERSION)
+                .totalBoxQuantity(totalBoxQuantity)
+                .cbmPerBox(cbmPerBox)
+                .totalCbm(cbmPerBox.multiply(BigDecimal.valueOf(totalBoxQuantity)))
+                .build();
+        }
+
+        private DerivedMetrics withExchangeRate(CargoInfo cargoInfo, int exchangeRate) {
+            BigDecimal unitPrice = cargoInfo.getValue()
+                .divide(new BigDecimal(exchangeRate), 2, RoundingMode.HALF_UP);
+
+            return this.toBuilder()
+                .exchangeRate(exchangeRate)
+                .unitPriceInForeignCurrency(unitPrice)
+                .totalAmountInForeignCurrency(unitPrice.multiply(new BigDecimal(cargoInfo.getTotalQuantity())))
+                .build();
+        }
+    }
+
+    /**
+     * 파생 지표 갱신 (화물 저장 시 호출)
+     */
+    public void refreshDerivedMetrics(int exchangeRate) {
+        this.derivedMetrics = derivedMetricsFor(exchangeRate);
+    }
+
+    /**
+     * 저장된 파생 지표가 주어진 환율 기준으로 최신인지
+     */
+    public boolean hasDerivedMetricsFor(int exchangeRate) {
+        return this.derivedMetrics != null
+            && Objects.equals(this.derivedMetrics.getVersion(), DERIVED_METRICS_VERSION)
+            && Objects.equals(this.derivedMetrics.getExchangeRate(), exchangeRate);
+    }
+
+    /**
+     * 주어진 환율 기준 파생 지표. 저장된 값이 최신이면 그대로 사용하고, 형상 지표는 버전이 다를 때만, 외화 지표는 환율이 다를 때만 다시
+     * 계산한다. 다시 계산한 값의 저장은 {@link CargoDerivedMetricsWriter} 가 맡는다.
+     */
+    public DerivedMetrics derivedMetricsFor(int exchangeRate) {
+        DerivedMetrics metrics = this.derivedMetrics;
+        if (metrics == null || !Objects.equals(metrics.getVersion(), DERIVED_METRICS_VERSION)) {
+            metrics = DerivedMetrics.ofGeometry(this.cargoInfo);
+        }
+        if (!Objects.equals(metrics.getExchangeRate(), exchangeRate)) {
+            metrics = metrics.withExchangeRate(this.cargoInfo, exchangeRate);
+        }
+        return metrics;
+    }
+
     public CargoDTO toCargoDTO(Port exportPort, Port importPort) {
         CargoDTO.CargoInfoDto cargoInfoDto = new CargoDTO.CargoInfoDto(
             this.cargoInfo.getProductName(),
@@ -100,5 +183,7 @@ public class Cargo extends MongoBaseEntity {
             .weight(cargoRequest.getWeight())
             .value(cargoRequest.getValue())
             .build();
+        this.derivedMetrics = null;
+        this.revision = this.revision == null ? 1L : this.revision + 1;
     }
 }
@@ -0,0 +1,53 @@
+package com.example.linkcargo.domain.cargo;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환율 변경 등으로 낡은 화물 파생 지표 갱신
+ * <p>
+ * 비용 계산 전에 조회한 화물의 지표가 현재 환율 기준이 아니면 한 번 다시 계산해 저장하므로, 환율이 바뀐 뒤에도 다음 계산부터는 저장된
+ * 값을 그대로 사용한다. 조회 이후 화물이 수정되어 revision 이 바뀌었으면 수정 시 계산된 값을 덮어쓰지 않도록 저장하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CargoDerivedMetricsWriter {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 낡은 지표를 다시 계산해 화물 객체에 반영하고 저장 (병렬 계산 전에 호출)
+     */
+    public void refreshStale(Collection<Cargo> cargos, int exchangeRate) {
+        List<Cargo> staleCargos = cargos.stream()
+            .filter(cargo -> !cargo.hasDerivedMetricsFor(exchangeRate))
+            .toList();
+        if (staleCargos.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Cargo.class);
+        for (Cargo cargo : staleCargos) {
+            cargo.refreshDerivedMetrics(exchangeRate);
+            bulkOperations.updateOne(
+                Query.query(Criteria.where("id").is(cargo.getId()).and("revision").is(cargo.getRevision())),
+                new Update().set("derivedMetrics", cargo.getDerivedMetrics()));
+        }
+
+        try {
+            bulkOperations.execute();
+        } catch (RuntimeException e) {
+            // 저장에 실패해도 이번 계산은 다시 계산한 값으로 진행한다
+            log.warn("화물 파생 지표를 저장하지 못했습니다. {}건, {}", staleCargos.size(), e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.linkcargo.domain.cargo;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 public interface CargoRepository extends MongoRepository<Cargo, String> {
 
     Page<Cargo> findAllByUserId(Long userId, PageRequest pageRequest);
 
     List<Cargo> findAllByUserId(Long userId);
+
+    // 수정 횟수만 조회 (비용 캐시 키)
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'revision': 1 }")
+    List<Cargo> findRevisionsByIdIn(List<String> ids);
+
+    long countByIdIn(Collection<String> ids);
 }
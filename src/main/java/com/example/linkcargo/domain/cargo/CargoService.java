@@ -6,8 +6,10 @@ import com.example.linkcargo.domain.cargo.dto.request.CargosRequest;
 import com.example.linkcargo.domain.cargo.dto.response.CargoIdsResponse;
 import com.example.linkcargo.domain.cargo.dto.response.CargoPageResponse;
 import com.example.linkcargo.domain.cargo.dto.response.CargoResponse;
+import com.example.linkcargo.domain.exchange.ExchangeRateProvider;
 import com.example.linkcargo.domain.port.Port;
 import com.example.linkcargo.domain.port.PortRepository;
+import com.example.linkcargo.domain.quotation.QuotationCostCache;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.CargoHandler;
 import java.util.ArrayList;
@@ -26,6 +28,8 @@ public class CargoService {
 
     private final CargoRepository cargoRepository;
     private final PortRepository portRepository;
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final QuotationCostCache quotationCostCache;
 
     /**
      * 화물 여러 개 추가
@@ -33,6 +37,7 @@ public class CargoService {
     @Transactional
     public CargoIdsResponse createCargos(Long userId, CargosRequest cargosRequest) {
         List<String> savedCargoIds = new ArrayList<>();
+        int exchangeRate = exchangeRateProvider.getUsdRate();
         for (CargoRequest cargoRequest : cargosRequest.cargos()) {
             Cargo cargo = cargoRequest.toEntity(
                 userId,
@@ -42,6 +47,7 @@ public class CargoService {
                 cargosRequest.incoterms()
             );
             cargo.prePersist();
+            cargo.refreshDerivedMetrics(exchangeRate);
 
             Cargo savedCargo = cargoRepository.save(cargo);
             savedCargoIds.add(savedCargo.getId());
@@ -94,8 +100,10 @@ public class CargoService {
             throw new CargoHandler(ErrorStatus.CARGO_USER_NOT_MATCH);
         }
         cargo.update(cargoRequest);
+        cargo.refreshDerivedMetrics(exchangeRateProvider.getUsdRate());
         cargo.preUpdate();
         cargoRepository.save(cargo);
+        quotationCostCache.invalidateCargo(cargoId);
         return cargo;
     }
 
@@ -109,6 +117,7 @@ public class CargoService {
             throw new CargoHandler(ErrorStatus.CARGO_USER_NOT_MATCH);
         }
         cargoRepository.delete(cargo);
+        quotationCostCache.invalidateCargo(cargoId);
     }
 
 
@@ -97,6 +97,7 @@ public class CargoRequest {
                 .weight(this.weight)
                 .value(this.value)
                 .build())
+            .revision(0L)
             .build();
     }
 }
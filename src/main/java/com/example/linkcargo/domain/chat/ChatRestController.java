@@ -8,6 +8,8 @@ import com.example.linkcargo.domain.chat.dto.response.ChatRoomsResponse;
 import com.example.linkcargo.domain.user.dto.response.FilesResponse;
 import com.example.linkcargo.domain.user.UserS3Service;
 import com.example.linkcargo.domain.user.dto.response.FileResponse;
+import com.example.linkcargo.global.etag.ConditionalGet;
+import com.example.linkcargo.global.etag.DataResource;
 import com.example.linkcargo.global.response.ApiResponse;
 import com.example.linkcargo.global.security.CustomUserDetail;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +39,7 @@ public class ChatRestController {
     // TODO 이거 오래된 순으로 바꿔야 할 듯
     @Operation(summary = "채팅방 메시지 목록 조회(최근순)", description = "특정 채팅방의 메시지 목록을 조회합니다.")
     @GetMapping("/{chatRoomId}/messages")
+    @ConditionalGet(resources = DataResource.CHAT)
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공")
     })
@@ -47,6 +50,7 @@ public class ChatRestController {
 
     @Operation(summary = "채팅방 목록 조회", description = "유저의 채팅방의 목록을 조회합니다.")
     @GetMapping("/rooms")
+    @ConditionalGet(resources = {DataResource.CHAT, DataResource.USER})
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공")
     })
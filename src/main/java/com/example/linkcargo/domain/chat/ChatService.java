@@ -11,6 +11,8 @@ import com.example.linkcargo.domain.chat.repository.ChatRoomRepository;
 import com.example.linkcargo.domain.chat.repository.MemberShipRepository;
 import com.example.linkcargo.domain.user.User;
 import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.UsersHandler;
 import java.util.ArrayList;
@@ -30,6 +32,7 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final MemberShipRepository memberShipRepository;
     private final UserRepository userRepository;
+    private final DataVersionRegistry dataVersionRegistry;
 
     /**
      * 채팅방 생성 또는 조회
@@ -49,6 +52,7 @@ public class ChatService {
         newChatRoom.setTitle("Chat Room between " + userId + " and " + targetUserId); // 제목 설정
         newChatRoom.setStatus(RoomStatus.ENABLED); // 기본 상태 설정
         ChatRoom savedChatRoom = chatRoomRepository.save(newChatRoom);
+        dataVersionRegistry.bump(DataResource.CHAT);
         if (!isUserInChatRoom(userId, savedChatRoom.getId())) {
             addUserToChatRoom(userId, savedChatRoom.getId());
         }
@@ -128,7 +132,9 @@ public class ChatService {
      * 채팅 저장
      */
     public Chat saveChat(Chat chat) {
-        return chatRepository.save(chat);
+        Chat savedChat = chatRepository.save(chat);
+        dataVersionRegistry.bump(DataResource.CHAT);
+        return savedChat;
     }
 
     /**
@@ -139,7 +145,9 @@ public class ChatService {
             .orElseThrow(() -> new UsersHandler(ErrorStatus.USER_NOT_FOUND));
         ChatRoom chatRoom = getChatRoom(chatRoomId);
 
-        return memberShipRepository.save(new Membership(user, chatRoom));
+        Membership membership = memberShipRepository.save(new Membership(user, chatRoom));
+        dataVersionRegistry.bump(DataResource.CHAT);
+        return membership;
     }
 
     /**
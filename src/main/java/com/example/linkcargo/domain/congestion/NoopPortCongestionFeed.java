@@ -0,0 +1,18 @@
+package com.example.linkcargo.domain.congestion;
+
+import java.util.OptionalInt;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 혼잡도를 쓰지 않는 기본 제공자 (congestion.feed=none)
+ */
+@Component
+@ConditionalOnProperty(name = "congestion.feed", havingValue = "none", matchIfMissing = true)
+public class NoopPortCongestionFeed implements PortCongestionFeed {
+
+    @Override
+    public OptionalInt findCongestionPercent(Long portId) {
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.linkcargo.domain.congestion;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+/**
+ * 항구의 주간 혼잡도. percent 는 기간 내 가장 붐비는 주의 입출항 수를 100 으로 본 비율이다.
+ */
+@Builder
+public record PortCongestion(
+    Long portId,
+    LocalDate weekStart,
+    Integer arrivals,
+    Integer departures,
+    Integer percent
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.congestion;
+
+import java.util.OptionalInt;
+
+/**
+ * 외부 항구 혼잡도 제공자. 값이 없으면 자체 스케줄 기반 혼잡도만 사용한다.
+ */
+public interface PortCongestionFeed {
+
+    OptionalInt findCongestionPercent(Long portId);
+}
@@ -0,0 +1,212 @@
+package com.example.linkcargo.domain.congestion;
+
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 항구 혼잡도 계산
+ * <p>
+ * 항구별, 주별 입항(ETA) 수와 출항(ETD) 수를 메모리에 집계해 두고, 스케줄이 생성·수정·삭제되면 커밋 이후 해당 주의 값만 갱신한다.
+ * 혼잡도는 앞뒤 window-weeks 주 중 입출항 수가 가장 많은 주를 100 으로 본 비율이며, 값이 바뀔 때 이번 주 혼잡도를 미리 계산해 둔다.
+ * 외부 혼잡도가 있으면 캐시를 거쳐 feed.weight 만큼 섞는다. 집계는 주기적으로 DB 에서 다시 만들어 누락분을 바로잡는다.
+ */
+@Slf4j
+@Service
+public class PortCongestionService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final PortCongestionFeed portCongestionFeed;
+    private final int windowWeeks;
+    private final double feedWeight;
+    private final LoadingCache<Long, OptionalInt> feedCache;
+
+    private volatile Map<PortWeek, Integer> arrivals = new ConcurrentHashMap<>();
+    private volatile Map<PortWeek, Integer> departures = new ConcurrentHashMap<>();
+    private final Map<Long, PortCongestion> currentCongestions = new ConcurrentHashMap<>(); // 이번 주 항구별 혼잡도
+    private volatile LocalDate currentWeekStart;
+
+    public PortCongestionService(
+        ScheduleRepository scheduleRepository,
+        PortCongestionFeed portCongestionFeed,
+        @Value("${congestion.window-weeks:12}") int windowWeeks,
+        @Value("${congestion.feed.weight:0.0}") double feedWeight,
+        @Value("${congestion.feed.cache-ttl-ms:600000}") long feedCacheTtlMs
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.portCongestionFeed = portCongestionFeed;
+        this.windowWeeks = windowWeeks;
+        this.feedWeight = feedWeight;
+        this.feedCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(feedCacheTtlMs))
+            .maximumSize(1000)
+            .build(this::loadFeed);
+    }
+
+    /**
+     * 이번 주 혼잡도
+     */
+    public PortCongestion getCongestion(Long portId) {
+        if (currentWeekStart == null || !currentWeekStart.equals(weekStartOf(LocalDateTime.now()))) {
+            rebuild();
+        }
+        PortCongestion congestion = currentCongestions.computeIfAbsent(portId,
+            id -> calculate(id, currentWeekStart));
+        if (feedWeight <= 0) {
+            return congestion;
+        }
+
+        OptionalInt feedPercent = feedCache.get(portId);
+        if (feedPercent.isEmpty()) {
+            return congestion;
+        }
+        int blended = (int) Math.round(congestion.percent() * (1 - feedWeight) + feedPercent.getAsInt() * feedWeight);
+        return PortCongestion.builder()
+            .portId(congestion.portId())
+            .weekStart(congestion.weekStart())
+            .arrivals(congestion.arrivals())
+            .departures(congestion.departures())
+            .percent(blended)
+            .build();
+    }
+
+    /**
+     * 스케줄 생성(before=null), 수정, 삭제(after=null) 내용을 커밋 이후 반영
+     */
+    public void applyChange(ScheduleTraffic before, ScheduleTraffic after) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(before, after);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(before, after);
+            }
+        });
+    }
+
+    // 시작 시 1회, 이후 주기적으로 DB 에서 다시 집계
+    @Scheduled(fixedDelayString = "${congestion.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        LocalDate weekStart = weekStartOf(LocalDateTime.now());
+        LocalDateTime from = weekStart.minusWeeks(windowWeeks).atStartOfDay();
+        LocalDateTime to = weekStart.plusWeeks(windowWeeks + 1).atStartOfDay();
+
+        List<PortTraffic> arrivalTraffics;
+        List<PortTraffic> departureTraffics;
+        try {
+            arrivalTraffics = scheduleRepository.findArrivalsBetween(from, to);
+            departureTraffics = scheduleRepository.findDeparturesBetween(from, to);
+        } catch (RuntimeException e) {
+            // 조회에 실패하면 현재 집계를 유지한다
+            log.warn("항구 혼잡도를 다시 집계하지 못했습니다. {}", e.getMessage());
+            if (currentWeekStart == null) {
+                currentWeekStart = weekStart;
+            }
+            return;
+        }
+
+        Map<PortWeek, Integer> rebuiltArrivals = new ConcurrentHashMap<>();
+        Map<PortWeek, Integer> rebuiltDepartures = new ConcurrentHashMap<>();
+        arrivalTraffics.forEach(traffic -> add(rebuiltArrivals, traffic.portId(), traffic.at(), 1));
+        departureTraffics.forEach(traffic -> add(rebuiltDepartures, traffic.portId(), traffic.at(), 1));
+
+        arrivals = rebuiltArrivals;
+        departures = rebuiltDepartures;
+        currentWeekStart = weekStart;
+        currentCongestions.clear();
+    }
+
+    private synchronized void apply(ScheduleTraffic before, ScheduleTraffic after) {
+        if (before != null) {
+            add(arrivals, before.importPortId(), before.ETA(), -1);
+            add(departures, before.exportPortId(), before.ETD(), -1);
+            refresh(before);
+        }
+        if (after != null) {
+            add(arrivals, after.importPortId(), after.ETA(), 1);
+            add(departures, after.exportPortId(), after.ETD(), 1);
+            refresh(after);
+        }
+    }
+
+    // 바뀐 항구의 이번 주 혼잡도를 다시 계산
+    private void refresh(ScheduleTraffic traffic) {
+        LocalDate weekStart = currentWeekStart;
+        if (weekStart == null) {
+            return;
+        }
+        for (Long portId : new Long[]{traffic.importPortId(), traffic.exportPortId()}) {
+            if (portId != null) {
+                currentCongestions.put(portId, calculate(portId, weekStart));
+            }
+        }
+    }
+
+    private PortCongestion calculate(Long portId, LocalDate weekStart) {
+        int peakLoad = 0;
+        for (int offset = -windowWeeks; offset <= windowWeeks; offset++) {
+            peakLoad = Math.max(peakLoad, load(portId, weekStart.plusWeeks(offset)));
+        }
+
+        PortWeek portWeek = new PortWeek(portId, weekStart);
+        int weekArrivals = arrivals.getOrDefault(portWeek, 0);
+        int weekDepartures = departures.getOrDefault(portWeek, 0);
+        int percent = peakLoad == 0 ? 0 : Math.round((weekArrivals + weekDepartures) * 100f / peakLoad);
+        return PortCongestion.builder()
+            .portId(portId)
+            .weekStart(weekStart)
+            .arrivals(weekArrivals)
+            .departures(weekDepartures)
+            .percent(percent)
+            .build();
+    }
+
+    private int load(Long portId, LocalDate weekStart) {
+        PortWeek portWeek = new PortWeek(portId, weekStart);
+        return arrivals.getOrDefault(portWeek, 0) + departures.getOrDefault(portWeek, 0);
+    }
+
+    private void add(Map<PortWeek, Integer> counters, Long portId, LocalDateTime at, int delta) {
+        if (portId == null || at == null) {
+            return;
+        }
+        counters.compute(new PortWeek(portId, weekStartOf(at)), (key, count) -> {
+            int updated = (count == null ? 0 : count) + delta;
+            return updated <= 0 ? null : updated;
+        });
+    }
+
+    private OptionalInt loadFeed(Long portId) {
+        try {
+            return portCongestionFeed.findCongestionPercent(portId);
+        } catch (RuntimeException e) {
+            log.warn("외부 항구 혼잡도를 조회하지 못했습니다. portId={} {}", portId, e.getMessage());
+            return OptionalInt.empty();
+        }
+    }
+
+    private static LocalDate weekStartOf(LocalDateTime at) {
+        return at.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record PortWeek(Long portId, LocalDate weekStart) {
+
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.linkcargo.domain.congestion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 항구별 입항(ETA) 또는 출항(ETD) 시각 조회 결과
+ */
+public record PortTraffic(
+    Long portId,
+    LocalDateTime at
+) {
+
+}
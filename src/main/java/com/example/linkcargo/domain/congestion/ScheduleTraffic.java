@@ -0,0 +1,23 @@
+package com.example.linkcargo.domain.congestion;
+
+import com.example.linkcargo.domain.schedule.Schedule;
+import java.time.LocalDateTime;
+
+/**
+ * 혼잡도 계산에 쓰는 스케줄 값. 스케줄 수정 전후 값을 비교하기 위해 엔티티와 분리해 둔다.
+ */
+public record ScheduleTraffic(
+    Long exportPortId,
+    Long importPortId,
+    LocalDateTime ETD,
+    LocalDateTime ETA
+) {
+
+    public static ScheduleTraffic fromEntity(Schedule schedule) {
+        return new ScheduleTraffic(
+            schedule.getExportPort() != null ? schedule.getExportPort().getId() : null,
+            schedule.getImportPort() != null ? schedule.getImportPort().getId() : null,
+            schedule.getETD(),
+            schedule.getETA());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.linkcargo.domain.dashboard;
+
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationResponse;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationStatus;
+import com.example.linkcargo.domain.schedule.Schedule;
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포워더 견적서(DETAIL_INFO) 중 총 비용이 낮은 순으로 N 개 조회.
+ * <p>
+ * 정렬과 개수 제한은 (originalQuotationId, quotationStatus, cost.totalCost) 인덱스를 타는 Mongo 집계에서 처리하고, 응답에 필요한
+ * 필드만 가져온다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CheapestQuotationService {
+
+    // 응답 생성에 필요한 필드 (cargoIds, particulars 등은 제외)
+    private static final AggregationOperation BID_PROJECTION = context -> new Document("$project", new Document()
+        .append("forwarderId", 1)
+        .append("quotationStatus", 1)
+        .append("originalQuotationId", 1)
+        .append("freight", 1)
+        .append("cost.chargeExport", 1)
+        .append("cost.freightCost", 1)
+        .append("cost.totalCost", 1));
+
+    private final MongoTemplate mongoTemplate;
+    private final ScheduleRepository scheduleRepository;
+    private final QuotationComparisonService quotationComparisonService;
+    private final int maxLimit;
+
+    public CheapestQuotationService(
+        MongoTemplate mongoTemplate,
+        ScheduleRepository scheduleRepository,
+        QuotationComparisonService quotationComparisonService,
+        @Value("${dashboard.cheapest.max-limit:20}") int maxLimit
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.scheduleRepository = scheduleRepository;
+        this.quotationComparisonService = quotationComparisonService;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 총 비용이 가장 적은 견적서
+     */
+    public DashboardQuotationResponse getTheCheapestQuotation(String originalQuotationId) {
+        return getCheapestQuotations(originalQuotationId, 1, null).stream()
+            .findFirst()
+            .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_NOT_FOUND));
+    }
+
+    /**
+     * 총 비용이 적은 순으로 최대 limit 개. maxTransitTime 이 있으면 운송 기간이 그 이하인 스케줄의 견적서만 포함한다.
+     */
+    public List<DashboardQuotationResponse> getCheapestQuotations(String originalQuotationId, int limit, Integer maxTransitTime) {
+        List<Quotation> bids = findCheapestBids(originalQuotationId, Math.max(1, Math.min(limit, maxLimit)), maxTransitTime);
+        if (bids.isEmpty()) {
+            return List.of();
+        }
+        return quotationComparisonService.resolve(originalQuotationId, quotationComparisonService.createEntries(bids))
+            .stream()
+            .map(QuotationComparison.ResolvedEntry::quotation)
+            .toList();
+    }
+
+    private List<Quotation> findCheapestBids(String originalQuotationId, int limit, Integer maxTransitTime) {
+        Criteria criteria = Criteria.where("originalQuotationId").is(originalQuotationId)
+            .and("quotationStatus").is(QuotationStatus.DETAIL_INFO);
+
+        // 포워더 견적서는 모두 원본 견적서의 스케줄을 따른다
+        if (maxTransitTime != null && !isWithinTransitTime(originalQuotationId, maxTransitTime)) {
+            return List.of();
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(criteria),
+            Aggregation.sort(Sort.Direction.ASC, "cost.totalCost"),
+            Aggregation.limit(limit),
+            BID_PROJECTION);
+        return mongoTemplate.aggregate(aggregation, Quotation.class, Quotation.class).getMappedResults();
+    }
+
+    private boolean isWithinTransitTime(String originalQuotationId, int maxTransitTime) {
+        Query query = Query.query(Criteria.where("id").is(originalQuotationId));
+        query.fields().include("freight.scheduleId");
+        Quotation original = mongoTemplate.findOne(query, Quotation.class);
+        if (original == null || original.getFreight() == null || original.getFreight().getScheduleId() == null) {
+            return false;
+        }
+
+        return scheduleRepository.findById(Long.valueOf(original.getFreight().getScheduleId()))
+            .map(Schedule::getTransitTime)
+            .filter(transitTime -> transitTime <= maxTransitTime)
+            .isPresent();
+    }
+}
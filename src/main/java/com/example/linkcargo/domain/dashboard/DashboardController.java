@@ -1,5 +1,6 @@
 package com.example.linkcargo.domain.dashboard;
 
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardCostCurveResponse;
 import com.example.linkcargo.domain.dashboard.dto.response.DashboardNewsResponse;
 import com.example.linkcargo.domain.dashboard.dto.response.DashboardPortCongestionResponse;
 import com.example.linkcargo.domain.dashboard.dto.response.DashboardPredictionReasonResponse;
@@ -7,6 +8,9 @@ import com.example.linkcargo.domain.dashboard.dto.response.DashboardPredictionRe
 import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationCompareResponse;
 import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationResponse;
 import com.example.linkcargo.domain.dashboard.dto.response.DashboardRecommendationResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardSummaryResponse;
+import com.example.linkcargo.global.etag.ConditionalGet;
+import com.example.linkcargo.global.etag.DataResource;
 import com.example.linkcargo.global.response.ApiResponse;
 import com.example.linkcargo.global.security.CustomUserDetail;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,9 +19,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -27,14 +36,19 @@ import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "9. Dashboard", description = "대시보드 관련 API")
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/dashboards")
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardSummaryService dashboardSummaryService;
+    private final CheapestQuotationService cheapestQuotationService;
 
     @Operation(summary = "가장 싼 견적서 조회", description = "요청한 견적서를 포워더가 업데이트 한 후 운임비용이 가장 적은 견적서를 조회합니다. DashboardQuotationResponse 사용")
     @GetMapping("/cheapest")
+    @ConditionalGet(resources = {DataResource.QUOTATION, DataResource.SCHEDULE, DataResource.PORT,
+        DataResource.USER, DataResource.FORWARDING})
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "SCHEDULE403",description = "선박 스케줄이 존재 하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
@@ -45,11 +59,32 @@ public class DashboardController {
         @AuthenticationPrincipal CustomUserDetail userDetail,
         @Parameter(description = "화주가 요청한 견적서의 아이디") @RequestParam String quotationId)
      {
-        return ApiResponse.onSuccess(dashboardService.getTheCheapestQuotation(quotationId));
+        return ApiResponse.onSuccess(cheapestQuotationService.getTheCheapestQuotation(quotationId));
+    }
+
+    @Operation(summary = "저렴한 견적서 목록 조회", description = "요청한 견적서를 포워더가 업데이트 한 후 운임비용이 적은 순으로 최대 limit 개의 견적서를 조회합니다."
+        + " maxTransitTime 을 주면 운송 기간이 그 이하인 견적서만 조회합니다. DashboardQuotationResponse 사용")
+    @GetMapping("/cheapest/top")
+    @ConditionalGet(resources = {DataResource.QUOTATION, DataResource.SCHEDULE, DataResource.PORT,
+        DataResource.USER, DataResource.FORWARDING})
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "SCHEDULE403",description = "선박 스케줄이 존재 하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "USER403", description = "해당 ID 의 유저가 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<List<DashboardQuotationResponse>> getCheapestQuotations(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "화주가 요청한 견적서의 아이디") @RequestParam String quotationId,
+        @Parameter(description = "조회할 견적서 수") @RequestParam(defaultValue = "3") int limit,
+        @Parameter(description = "최대 운송 기간(일)") @RequestParam(required = false) Integer maxTransitTime)
+    {
+        return ApiResponse.onSuccess(cheapestQuotationService.getCheapestQuotations(quotationId, limit, maxTransitTime));
     }
 
     @Operation(summary = "견적서 비교 ", description = "요청한 견적서를 포워더가 업데이트 한 후 견적서 끼리 비교합니다. DashboardQuotationCompareResponse 사용")
     @GetMapping("/compare")
+    @ConditionalGet(resources = {DataResource.QUOTATION, DataResource.SCHEDULE, DataResource.PORT,
+        DataResource.USER, DataResource.FORWARDING})
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "SCHEDULE403",description = "선박 스케줄이 존재 하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
@@ -66,6 +101,7 @@ public class DashboardController {
 
     @Operation(summary = "운임 비용 관련 그래프 정보 조회 ", description = "운임 비용 관련 그래프 정보를 조회합니다. DashboardPredictionResponse 사용")
     @GetMapping("/prediction")
+    @ConditionalGet(resources = {DataResource.PREDICTION, DataResource.PORT}, daily = true)
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
     })
@@ -80,6 +116,7 @@ public class DashboardController {
 
     @Operation(summary = "운임 비용 관련 이유 정보 조회 ", description = "운임 비용 관련 이유 정보를 조회합니다. DashboardPredictionReasonResponse 사용")
     @GetMapping("/prediction/reason")
+    @ConditionalGet(resources = DataResource.PREDICTION, daily = true)
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
     })
@@ -103,6 +140,7 @@ public class DashboardController {
 
     @Operation(summary = "뉴스 요약 정보 조회", description = "사용자의 관심사에 따른 뉴스 정보의 요약 정보를 조회합니다. DashboardNewsResponse 사용")
     @GetMapping("/news/summary")
+    @ConditionalGet(resources = DataResource.NEWS, daily = true)
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
     })
@@ -118,6 +156,7 @@ public class DashboardController {
     @GetMapping("/recommendation")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "PREDICTION401", description = "운임 예측 정보가 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
     })
     public ApiResponse<DashboardRecommendationResponse> getRecommendationInfoByCost(
         @AuthenticationPrincipal CustomUserDetail userDetail,
@@ -126,6 +165,43 @@ public class DashboardController {
         return ApiResponse.onSuccess(dashboardService.getRecommendationInfoByCost(quotationId));
     }
 
+    @Operation(summary = "운임 지수별 예상 비용 조회", description = "향후 6개월 예측 운임 지수와 사용자 지정 운임 지수별 예상 비용을 한 번에 조회합니다."
+        + " DashboardCostCurveResponse 사용")
+    @GetMapping("/cost-curve")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "QUOTATION402", description = "해당 견적서가 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "DASHBOARD403", description = "추가 운임 지수는 20개까지 조회할 수 있습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "DASHBOARD404", description = "운임 지수는 1 이상 100000 이하여야 합니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<DashboardCostCurveResponse> getCostCurve(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "화주가 요청한 견적서의 아이디") @RequestParam String quotationId,
+        // 값마다 계산하고 비용 캐시에 넣으므로 개수와 범위를 제한한다
+        @Parameter(description = "추가로 계산할 운임 지수 목록 (최대 20개, 1 ~ 100000)")
+        @RequestParam(required = false)
+        @Size(max = 20, message = "DASHBOARD_TOO_MANY_SCENARIOS")
+        List<@NotNull(message = "DASHBOARD_INVALID_SCENARIO")
+            @Min(value = 1, message = "DASHBOARD_INVALID_SCENARIO")
+            @Max(value = 100_000, message = "DASHBOARD_INVALID_SCENARIO") Integer> scenarios)
+    {
+        return ApiResponse.onSuccess(dashboardService.getCostCurve(quotationId, scenarios));
+    }
 
-
+    @Operation(summary = "대시보드 요약 조회", description = "가장 싼 견적서, 견적서 비교, 운임 예측, 운임 예측 이유, 항구 혼잡도, 뉴스 요약을 한 번에 조회합니다."
+        + " 실패하거나 시간을 넘긴 항목은 비어 있고 failedSections 에 에러 코드가 담깁니다. DashboardSummaryResponse 사용")
+    @GetMapping("/summary")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+    })
+    public ApiResponse<DashboardSummaryResponse> getSummary(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "화주가 요청한 견적서의 아이디") @RequestParam String quotationId,
+        @Parameter(description = "수출항 ID") @RequestParam Long exportPortId,
+        @Parameter(description = "수입항 ID") @RequestParam Long importPortId,
+        @Parameter(description = "사용자가 선택한 관심사") @RequestParam(required = false) List<String> interests)
+    {
+        return ApiResponse.onSuccess(
+            dashboardSummaryService.getSummary(quotationId, exportPortId, importPortId, interests));
+    }
 }
@@ -0,0 +1,250 @@
+package com.example.linkcargo.domain.dashboard;
+
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardNewsResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardPortCongestionResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardPredictionReasonResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardPredictionResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationCompareResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationResponse;
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardSummaryResponse;
+import com.example.linkcargo.domain.port.Port;
+import com.example.linkcargo.domain.port.PortRepository;
+import com.example.linkcargo.domain.prediction.PredictionIndex;
+import com.example.linkcargo.domain.prediction.PredictionIndexService;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.GeneralException;
+import com.example.linkcargo.global.response.exception.handler.PortHandler;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대시보드 요약 조회
+ * <p>
+ * 비교표, 최저가 견적서, 운임 지수 예측값, 항구 정보, 뉴스를 제한된 풀에서 한 번씩 동시에 조회하고 각 항목은 이를 나눠 쓴다. 항목마다 제한 시간이
+ * 있으며, 실패하거나 시간을 넘긴 항목은 비워 두고 failedSections 에 에러 코드를 담아 나머지 항목만 반환한다.
+ * <p>
+ * 풀은 동시에 처리할 요청 수 x 요청당 조회 수로 잡고, 요청은 조회 스레드를 모두 확보한 경우만 받는다. 시간을 넘긴 조회는 취소(인터럽트)
+ * 하며, 인터럽트에 반응하지 않고 계속 도는 조회가 있으면 그 요청의 자리는 조회가 실제로 끝날 때까지 반환되지 않는다. 따라서 늦은 조회가
+ * 풀에 쌓여 뒤 요청이 큐에서 시간만 보내는 대신, 자리가 없는 요청은 바로 DASHBOARD402 로 응답한다.
+ */
+@Slf4j
+@Service
+public class DashboardSummaryService {
+
+    // 요청 하나가 동시에 실행하는 조회 수 (비교표, 최저가 견적서, 예측값, 항구, 뉴스)
+    private static final int SOURCES_PER_REQUEST = 5;
+
+    private final DashboardService dashboardService;
+    private final CheapestQuotationService cheapestQuotationService;
+    private final QuotationComparisonService quotationComparisonService;
+    private final PredictionIndexService predictionIndexService;
+    private final PortRepository portRepository;
+    private final long sectionTimeoutMs;
+
+    private final ExecutorService summaryExecutor;
+    private final Semaphore requestSlots;
+
+    public DashboardSummaryService(
+        DashboardService dashboardService,
+        CheapestQuotationService cheapestQuotationService,
+        QuotationComparisonService quotationComparisonService,
+        PredictionIndexService predictionIndexService,
+        PortRepository portRepository,
+        @Value("${dashboard.summary.max-concurrent-requests:4}") int maxConcurrentRequests,
+        @Value("${dashboard.summary.section-timeout-ms:3000}") long sectionTimeoutMs
+    ) {
+        this.dashboardService = dashboardService;
+        this.cheapestQuotationService = cheapestQuotationService;
+        this.quotationComparisonService = quotationComparisonService;
+        this.predictionIndexService = predictionIndexService;
+        this.portRepository = portRepository;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+
+        // 받은 요청의 조회는 항상 빈 스레드가 있으므로 큐에서 기다리지 않는다
+        int poolSize = maxConcurrentRequests * SOURCES_PER_REQUEST;
+        this.requestSlots = new Semaphore(maxConcurrentRequests);
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.summaryExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "dashboard-summary-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        summaryExecutor.shutdownNow();
+    }
+
+    public DashboardSummaryResponse getSummary(String quotationId, Long exportPortId, Long importPortId,
+        List<String> interests) {
+
+        // 여러 항목에서 함께 쓰는 데이터는 한 번씩만 조회
+        SourceTasks sources = new SourceTasks(requestSlots.tryAcquire());
+        CompletableFuture<List<QuotationComparison.ResolvedEntry>> comparison
+            = sources.supply(() -> quotationComparisonService.getComparedQuotations(quotationId));
+        CompletableFuture<PredictionIndex> predictionIndex = sources.supply(predictionIndexService::getIndex);
+        CompletableFuture<Map<Long, Port>> ports = sources.supply(() -> findPorts(exportPortId, importPortId));
+
+        // 총 비용 인덱스를 타는 집계로 한 건만 조회 (비교표 전체를 메모리에서 비교하지 않는다)
+        CompletableFuture<DashboardQuotationResponse> cheapest = withTimeout(
+            sources.supply(() -> cheapestQuotationService.getTheCheapestQuotation(quotationId)));
+        CompletableFuture<DashboardQuotationCompareResponse> compare = withTimeout(
+            comparison.thenApply(DashboardQuotationCompareResponse::fromComparison));
+        CompletableFuture<DashboardPredictionResponse> prediction = withTimeout(
+            predictionIndex.thenCombine(ports, (index, portMap) -> dashboardService.getPredictionInfo(index,
+                getPort(portMap, exportPortId, ErrorStatus.EXPORT_PORT_NOT_FOUND),
+                getPort(portMap, importPortId, ErrorStatus.IMPORT_PORT_NOT_FOUND))));
+        CompletableFuture<DashboardPredictionReasonResponse> predictionReason = withTimeout(
+            predictionIndex.thenApply(dashboardService::getPredictionReasonInfo));
+        CompletableFuture<DashboardPortCongestionResponse> portCongestion = withTimeout(
+            ports.thenApply(portMap -> dashboardService.getImportPortCongestion(
+                getPort(portMap, importPortId, ErrorStatus.IMPORT_PORT_NOT_FOUND))));
+        CompletableFuture<DashboardNewsResponse> news = withTimeout(
+            sources.supply(() -> dashboardService.getInterestingNews(interests != null ? interests : List.of())));
+        sources.close();
+
+        Map<String, String> failedSections = new LinkedHashMap<>();
+        return DashboardSummaryResponse.builder()
+            .cheapest(join("cheapest", cheapest, failedSections))
+            .compare(join("compare", compare, failedSections))
+            .prediction(join("prediction", prediction, failedSections))
+            .predictionReason(join("predictionReason", predictionReason, failedSections))
+            .portCongestion(join("portCongestion", portCongestion, failedSections))
+            .news(join("news", news, failedSections))
+            .failedSections(failedSections)
+            .build();
+    }
+
+    private Map<Long, Port> findPorts(Long exportPortId, Long importPortId) {
+        return portRepository.findAllById(Stream.of(exportPortId, importPortId).distinct().toList()).stream()
+            .collect(Collectors.toMap(Port::getId, Function.identity()));
+    }
+
+    private Port getPort(Map<Long, Port> portMap, Long portId, ErrorStatus notFoundStatus) {
+        Port port = portMap.get(portId);
+        if (port == null) {
+            throw new PortHandler(notFoundStatus);
+        }
+        return port;
+    }
+
+    /**
+     * 요청 하나의 조회 작업. 자리를 확보하지 못한 요청의 조회는 바로 실패하고, 확보한 자리는 모든 조회 스레드가 실제로 끝난 뒤 반환한다.
+     */
+    private final class SourceTasks {
+
+        private final boolean admitted;
+        // 등록 중에는 1 로 두어 먼저 끝난 조회가 자리를 미리 반환하지 않게 한다 (close 에서 해제)
+        private final AtomicInteger running = new AtomicInteger(1);
+
+        private SourceTasks(boolean admitted) {
+            this.admitted = admitted;
+        }
+
+        <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+            if (!admitted) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("대시보드 요약 조회 자리가 없습니다."));
+            }
+
+            CompletableFuture<T> result = new CompletableFuture<>();
+            FutureTask<T> task = new FutureTask<>(supplier::get);
+            running.incrementAndGet();
+            try {
+                summaryExecutor.execute(() -> {
+                    try {
+                        // 시작 전에 취소된 작업은 바로 반환된다
+                        task.run();
+                        complete(result, task);
+                    } finally {
+                        finish();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                finish();
+                return CompletableFuture.failedFuture(e);
+            }
+
+            // 시간을 넘기면 결과를 기다리지 않고 실행 중인 조회도 인터럽트한다
+            return result.orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    if (error instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+        }
+
+        void close() {
+            finish();
+        }
+
+        private <T> void complete(CompletableFuture<T> result, FutureTask<T> task) {
+            try {
+                result.complete(task.get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (CancellationException | InterruptedException e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private void finish() {
+            if (admitted && running.decrementAndGet() == 0) {
+                requestSlots.release();
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> section) {
+        return section.orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 모든 항목이 동시에 시작되므로 순서대로 기다려도 전체 대기 시간은 제한 시간을 넘지 않는다
+    private <T> T join(String sectionName, CompletableFuture<T> section, Map<String, String> failedSections) {
+        try {
+            return section.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            failedSections.put(sectionName, errorCode(cause));
+            log.warn("대시보드 {} 항목 조회에 실패했습니다. {}", sectionName, cause.toString());
+            return null;
+        }
+    }
+
+    private String errorCode(Throwable cause) {
+        if (cause instanceof GeneralException generalException) {
+            return generalException.getErrorReason().getCode();
+        }
+        if (cause instanceof TimeoutException) {
+            return ErrorStatus.DASHBOARD_SECTION_TIMEOUT.getCode();
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return ErrorStatus.DASHBOARD_SECTION_REJECTED.getCode();
+        }
+        return ErrorStatus.INTERNAL_SERVER_ERROR.getCode();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.linkcargo.domain.dashboard;
+
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationResponse;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.global.entity.MongoBaseEntity;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 화주 견적서 하나에 대한 포워더 견적서(DETAIL_INFO) 비교표. 포워더가 견적서를 업데이트할 때마다 항목이 추가된다.
+ * <p>
+ * 항목에는 견적서, 포워더, 스케줄 아이디와 견적서의 비용 항목만 저장한다. 포워더(업체명, 연락처)와 스케줄(선사, 항구, 운송 기간)은
+ * 바뀔 수 있으므로 읽을 때 한 번에 조회해 붙인다(ResolvedEntry). complete 가 false 인 문서는 기존 견적서가 아직 반영되지 않은
+ * 상태이므로 조회 시 다시 만든다.
+ */
+@Document(collection = "quotation_comparisons")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuotationComparison extends MongoBaseEntity {
+
+    @Id
+    private String id; // 화주가 요청한 견적서 아이디(originalQuotationId)
+
+    private Boolean complete;
+
+    private List<Entry> entries;
+
+    /**
+     * 같은 견적서가 중복으로 들어간 경우 마지막 항목만 남긴다.
+     */
+    public List<Entry> distinctEntries() {
+        if (entries == null) {
+            return new ArrayList<>();
+        }
+        Map<String, Entry> entryMap = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            entryMap.remove(entry.getQuotationId());
+            entryMap.put(entry.getQuotationId(), entry);
+        }
+        return new ArrayList<>(entryMap.values());
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Entry {
+
+        private String quotationId; // 포워더가 업데이트한 견적서 아이디
+
+        private String forwarderId;
+
+        private String scheduleId;
+
+        private String scheduleRemark;
+
+        private BigDecimal totalCost;
+
+        private Quotation.ChargeExport chargeExport;
+
+        private Quotation.FreightCost freightCost;
+
+        private Integer thcCost;
+
+        private Integer handlingCost;
+
+        private Integer cfsCost;
+
+        private Integer liftStatusCost;
+
+        private Integer customsClearanceCost;
+
+        private Integer truckingCost;
+
+        // 아이디만 있는 항목 이전에 저장된 문서 (조회 시 다시 만든다)
+        public boolean isLegacy() {
+            return forwarderId == null || scheduleId == null;
+        }
+    }
+
+    /**
+     * 조회 시점의 포워더, 스케줄 정보를 붙인 항목
+     */
+    public record ResolvedEntry(
+        Entry entry,
+        String forwardingFirmName,
+        DashboardQuotationResponse quotation
+    ) {
+
+    }
+}
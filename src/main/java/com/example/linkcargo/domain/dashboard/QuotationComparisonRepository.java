@@ -0,0 +1,7 @@
+package com.example.linkcargo.domain.dashboard;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface QuotationComparisonRepository extends MongoRepository<QuotationComparison, String> {
+
+}
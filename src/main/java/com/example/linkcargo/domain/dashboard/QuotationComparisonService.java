@@ -0,0 +1,218 @@
+package com.example.linkcargo.domain.dashboard;
+
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationResponse;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationRepository;
+import com.example.linkcargo.domain.quotation.QuotationRevisionAssembler;
+import com.example.linkcargo.domain.quotation.QuotationStatus;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationInfoResponse;
+import com.example.linkcargo.domain.schedule.Schedule;
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.example.linkcargo.domain.user.User;
+import com.example.linkcargo.domain.user.UserRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포워더 견적서 비교표(QuotationComparison) 관리.
+ * <p>
+ * 포워더가 견적서를 업데이트하면 append 로 항목 하나만 추가하고, 대시보드는 getComparison 으로 문서 하나만 읽는다. 항목 추가와
+ * 재생성은 모두 $addToSet 으로 합쳐지므로 순서가 엇갈려도 항목이 사라지지 않는다. 항목에 저장하지 않는 포워더, 스케줄 정보는
+ * resolve 에서 한 번씩 조회해 붙이므로 포워더나 스케줄이 수정되어도 비교표를 다시 만들 필요가 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QuotationComparisonService {
+
+    private final QuotationComparisonRepository quotationComparisonRepository;
+    private final QuotationRepository quotationRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final QuotationRevisionAssembler quotationRevisionAssembler;
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 비교표 조회. 문서가 없거나 완성되지 않았으면 DETAIL_INFO 견적서로 다시 만든다.
+     */
+    public QuotationComparison getComparison(String originalQuotationId) {
+        Optional<QuotationComparison> stored = quotationComparisonRepository.findById(originalQuotationId);
+        if (stored.isPresent() && isLegacy(stored.get())) {
+            // 예전 형식(견적서 응답 전체를 저장한 항목)은 $addToSet 으로 합쳐지지 않으므로 지우고 다시 만든다
+            quotationComparisonRepository.deleteById(originalQuotationId);
+            return rebuild(originalQuotationId);
+        }
+        return stored
+            .filter(comparison -> Boolean.TRUE.equals(comparison.getComplete()))
+            .orElseGet(() -> rebuild(originalQuotationId));
+    }
+
+    /**
+     * 비교표 항목에 포워더, 스케줄 정보를 붙인다 (중복 제거 후). 탈퇴 등으로 포워더가 없는 항목은 제외하고, 삭제된 스케줄은 비워 둔다.
+     */
+    public List<QuotationComparison.ResolvedEntry> getComparedQuotations(String originalQuotationId) {
+        return resolve(originalQuotationId, getComparison(originalQuotationId).distinctEntries());
+    }
+
+    /**
+     * 항목 순서를 유지하며 포워더(포워딩 업체 포함)와 스케줄(항구 포함)을 한 번씩만 조회해 붙인다.
+     */
+    public List<QuotationComparison.ResolvedEntry> resolve(String originalQuotationId,
+        List<QuotationComparison.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Schedule> scheduleMap = findSchedulesWithPorts(entries.stream()
+            .map(entry -> Long.valueOf(entry.getScheduleId()))
+            .collect(Collectors.toSet()));
+        Map<Long, User> forwarderMap = findForwardersWithForwarding(entries.stream()
+            .map(entry -> Long.valueOf(entry.getForwarderId()))
+            .collect(Collectors.toSet()));
+
+        return entries.stream()
+            .filter(entry -> forwarderMap.containsKey(Long.valueOf(entry.getForwarderId())))
+            .map(entry -> {
+                User user = forwarderMap.get(Long.valueOf(entry.getForwarderId()));
+                Schedule schedule = scheduleMap.get(Long.valueOf(entry.getScheduleId()));
+                QuotationInfoResponse quotationInfoResponse = QuotationInfoResponse.fromEntity(
+                    toQuotation(originalQuotationId, entry), schedule);
+                BigDecimal totalCost = entry.getTotalCost().setScale(1, RoundingMode.HALF_UP);
+
+                return new QuotationComparison.ResolvedEntry(entry, user.getForwarding().getFirmName(),
+                    DashboardQuotationResponse.fromEntity(user, quotationInfoResponse, totalCost));
+            })
+            .toList();
+    }
+
+    /**
+     * 포워더가 업데이트한 견적서를 비교표에 추가. 실패해도 견적서 저장은 유지하고, 다음 조회 때 비교표를 다시 만든다.
+     */
+    public void append(Quotation quotation) {
+        Query query = Query.query(Criteria.where("_id").is(quotation.getOriginalQuotationId()));
+        try {
+            QuotationComparison.Entry entry = createEntries(List.of(quotation)).get(0);
+            LocalDateTime now = LocalDateTime.now();
+            Update update = new Update()
+                .addToSet("entries", entry)
+                .setOnInsert("complete", false)
+                .setOnInsert("created_at", now)
+                .set("updated_at", now);
+            mongoTemplate.upsert(query, update, QuotationComparison.class);
+        } catch (Exception e) {
+            log.warn("견적서 비교표 갱신에 실패했습니다. quotationId={}", quotation.getId(), e);
+            mongoTemplate.updateFirst(query, new Update().set("complete", false), QuotationComparison.class);
+        }
+    }
+
+    /**
+     * DETAIL_INFO 견적서 전체로 비교표를 다시 만든다. 견적서가 없으면 저장하지 않는다.
+     */
+    public QuotationComparison rebuild(String originalQuotationId) {
+        List<Quotation> quotations = quotationRepository.findQuotationsByOriginalQuotationIdAndQuotationStatus(
+            originalQuotationId, QuotationStatus.DETAIL_INFO);
+        List<QuotationComparison.Entry> entries = createEntries(quotations);
+        if (entries.isEmpty()) {
+            return QuotationComparison.builder()
+                .id(originalQuotationId)
+                .complete(true)
+                .entries(entries)
+                .build();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+            .set("complete", true)
+            .setOnInsert("created_at", now)
+            .set("updated_at", now);
+        update.addToSet("entries").each(entries.toArray());
+        return mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(originalQuotationId)),
+            update,
+            FindAndModifyOptions.options().upsert(true).returnNew(true),
+            QuotationComparison.class);
+    }
+
+    /**
+     * 견적서별 비교 항목 생성. 아이디와 견적서의 비용 항목만 담으므로 원본 견적서 외에는 조회하지 않는다.
+     */
+    public List<QuotationComparison.Entry> createEntries(List<Quotation> storedQuotations) {
+        List<Quotation> quotations = quotationRevisionAssembler.assemble(storedQuotations);
+
+        return quotations.stream()
+            .map(quotation -> {
+                Quotation.ChargeExport chargeExport = quotation.getCost().getChargeExport();
+
+                return QuotationComparison.Entry.builder()
+                    .quotationId(quotation.getId())
+                    .forwarderId(quotation.getForwarderId())
+                    .scheduleId(quotation.getFreight().getScheduleId())
+                    .scheduleRemark(quotation.getFreight().getRemark())
+                    .totalCost(quotation.getCost().getTotalCost())
+                    .chargeExport(chargeExport)
+                    .freightCost(quotation.getCost().getFreightCost())
+                    .thcCost(convertToInteger(chargeExport.getTHC().getLCL()))
+                    .handlingCost(convertToInteger(chargeExport.getHANDLING_FEE().getLCL()))
+                    .cfsCost(convertToInteger(chargeExport.getCFS_CHARGE().getLCL()))
+                    .liftStatusCost(convertToInteger(chargeExport.getLIFT_STATUS().getLCL()))
+                    .customsClearanceCost(convertToInteger(chargeExport.getCUSTOMS_CLEARANCE_FEE().getLCL()))
+                    .truckingCost(convertToInteger(chargeExport.getTRUCKING().getLCL()))
+                    .build();
+            })
+            .toList();
+    }
+
+    private Integer convertToInteger(BigDecimal value) {
+        return value.setScale(0, RoundingMode.HALF_UP).intValue();
+    }
+
+    private boolean isLegacy(QuotationComparison comparison) {
+        return comparison.getEntries() != null
+            && comparison.getEntries().stream().anyMatch(QuotationComparison.Entry::isLegacy);
+    }
+
+    // 항목의 비용 항목으로 응답 생성용 견적서를 만든다
+    private Quotation toQuotation(String originalQuotationId, QuotationComparison.Entry entry) {
+        return Quotation.builder()
+            .id(entry.getQuotationId())
+            .originalQuotationId(originalQuotationId)
+            .quotationStatus(QuotationStatus.DETAIL_INFO)
+            .forwarderId(entry.getForwarderId())
+            .freight(Quotation.Freight.builder()
+                .scheduleId(entry.getScheduleId())
+                .remark(entry.getScheduleRemark())
+                .build())
+            .cost(Quotation.Cost.builder()
+                .chargeExport(entry.getChargeExport())
+                .freightCost(entry.getFreightCost())
+                .totalCost(entry.getTotalCost())
+                .build())
+            .build();
+    }
+
+    private Map<Long, Schedule> findSchedulesWithPorts(Set<Long> scheduleIds) {
+        return scheduleRepository.findAllWithPortsByIdIn(scheduleIds).stream()
+            .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+    }
+
+    private Map<Long, User> findForwardersWithForwarding(Set<Long> forwarderIds) {
+        return userRepository.findAllWithForwardingByIdIn(forwarderIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+}
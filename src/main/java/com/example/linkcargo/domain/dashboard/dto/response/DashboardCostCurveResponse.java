@@ -0,0 +1,33 @@
+package com.example.linkcargo.domain.dashboard.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record DashboardCostCurveResponse(
+    List<CostPoint> costPoints
+) {
+
+    @Builder
+    public record CostPoint(
+        String label, // 예측 월(yyyy-MM) 또는 custom
+        Integer freightIndex,
+        BigDecimal estimatedCost
+    ) {
+
+        public static CostPoint fromEntity(String label, Integer freightIndex, BigDecimal estimatedCost) {
+            return CostPoint.builder()
+                .label(label)
+                .freightIndex(freightIndex)
+                .estimatedCost(estimatedCost)
+                .build();
+        }
+    }
+
+    public static DashboardCostCurveResponse fromEntity(List<CostPoint> costPoints) {
+        return DashboardCostCurveResponse.builder()
+            .costPoints(costPoints)
+            .build();
+    }
+}
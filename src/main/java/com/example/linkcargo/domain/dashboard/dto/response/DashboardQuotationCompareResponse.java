@@ -1,5 +1,6 @@
 package com.example.linkcargo.domain.dashboard.dto.response;
 
+import com.example.linkcargo.domain.dashboard.QuotationComparison;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -36,4 +37,17 @@ public record DashboardQuotationCompareResponse(
             .build();
 
     }
+
+    public static DashboardQuotationCompareResponse fromComparison(List<QuotationComparison.ResolvedEntry> entries) {
+        return DashboardQuotationCompareResponse.builder()
+            .quotationCount(entries.size())
+            .dashboardQuotationResponseList(entries.stream().map(QuotationComparison.ResolvedEntry::quotation).toList())
+            .thcCostList(entries.stream().map(entry -> Map.of(entry.forwardingFirmName(), entry.entry().getThcCost())).toList())
+            .handlingCostList(entries.stream().map(entry -> Map.of(entry.forwardingFirmName(), entry.entry().getHandlingCost())).toList())
+            .cfsCostList(entries.stream().map(entry -> Map.of(entry.forwardingFirmName(), entry.entry().getCfsCost())).toList())
+            .listStatusCostList(entries.stream().map(entry -> Map.of(entry.forwardingFirmName(), entry.entry().getLiftStatusCost())).toList())
+            .customsClearanceCostList(entries.stream().map(entry -> Map.of(entry.forwardingFirmName(), entry.entry().getCustomsClearanceCost())).toList())
+            .truckingCostList(entries.stream().map(entry -> Map.of(entry.forwardingFirmName(), entry.entry().getTruckingCost())).toList())
+            .build();
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.linkcargo.domain.dashboard.dto.response;
+
+import java.util.Map;
+import lombok.Builder;
+
+@Builder
+public record DashboardSummaryResponse(
+    DashboardQuotationResponse cheapest,
+    DashboardQuotationCompareResponse compare,
+    DashboardPredictionResponse prediction,
+    DashboardPredictionReasonResponse predictionReason,
+    DashboardPortCongestionResponse portCongestion,
+    DashboardNewsResponse news,
+    Map<String, String> failedSections // 실패한 항목 이름, 에러 코드
+) {
+
+}
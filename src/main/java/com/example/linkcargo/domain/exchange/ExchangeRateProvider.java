@@ -0,0 +1,19 @@
+package com.example.linkcargo.domain.exchange;
+
+/**
+ * 견적 계산에 사용할 환율 제공자. 구현체는 네트워크 호출 없이 메모리의 스냅샷을 반환해야 한다.
+ */
+public interface ExchangeRateProvider {
+
+    String USD = "USD";
+
+    ExchangeRateSnapshot getSnapshot(String currency);
+
+    default ExchangeRateSnapshot getUsdSnapshot() {
+        return getSnapshot(USD);
+    }
+
+    default int getUsdRate() {
+        return getUsdSnapshot().rate();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.linkcargo.domain.exchange;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 특정 통화의 환율 스냅샷. version 은 갱신될 때마다 증가하며, fallback 인 경우 0 이다.
+ */
+public record ExchangeRateSnapshot(
+    String currency,
+    int rate,
+    long version,
+    Instant fetchedAt,
+    boolean fallback
+) {
+
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.linkcargo.domain.exchange;
+
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.GeneralHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 한국수출입은행 환율 API 를 주기적으로 조회해 통화별 스냅샷을 메모리에 유지한다.
+ * <p>
+ * 조회 시에는 네트워크를 타지 않는다. 스냅샷이 refresh-interval 보다 오래되면 백그라운드 갱신을 트리거하고 기존 값을 그대로 반환하며
+ * (stale-while-revalidate), max-staleness 를 넘기면 fallback 환율을 반환한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "exchange-rate.provider", havingValue = "exim", matchIfMissing = true)
+public class KoreaEximExchangeRateProvider implements ExchangeRateProvider {
+
+    private static final String EXIM_URL = "https://www.koreaexim.go.kr/site/program/financial/exchangeJSON";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final Duration refreshInterval;
+    private final Duration maxStaleness;
+    private final int fallbackUsdRate;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exchange-rate-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile Map<String, ExchangeRateSnapshot> snapshots = Map.of();
+
+    private final Timer fetchTimer;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter staleServedCounter;
+    private final Counter fallbackServedCounter;
+
+    public KoreaEximExchangeRateProvider(
+        RestTemplate restTemplate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${api-key.export-import-bok.secretKey}") String apiKey,
+        @Value("${exchange-rate.refresh-interval-ms:600000}") long refreshIntervalMs,
+        @Value("${exchange-rate.max-staleness-ms:86400000}") long maxStalenessMs,
+        @Value("${exchange-rate.fallback.usd:1320}") int fallbackUsdRate
+    ) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+        this.maxStaleness = Duration.ofMillis(maxStalenessMs);
+        this.fallbackUsdRate = fallbackUsdRate;
+
+        this.fetchTimer = meterRegistry.timer("exchange.rate.fetch");
+        this.refreshSuccessCounter = meterRegistry.counter("exchange.rate.refresh", "result", "success");
+        this.refreshFailureCounter = meterRegistry.counter("exchange.rate.refresh", "result", "failure");
+        this.staleServedCounter = meterRegistry.counter("exchange.rate.served", "state", "stale");
+        this.fallbackServedCounter = meterRegistry.counter("exchange.rate.served", "state", "fallback");
+        Gauge.builder("exchange.rate.snapshot.age.seconds", this, provider -> provider.snapshotAgeSeconds(USD))
+            .register(meterRegistry);
+        Gauge.builder("exchange.rate.snapshot.usd", this, provider -> provider.snapshotRate(USD))
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ExchangeRateSnapshot getSnapshot(String currency) {
+        ExchangeRateSnapshot snapshot = snapshots.get(currency);
+        if (snapshot == null) {
+            triggerRefresh();
+            return fallback(currency);
+        }
+
+        Duration age = snapshot.age(Instant.now());
+        if (age.compareTo(maxStaleness) > 0) {
+            triggerRefresh();
+            return fallback(currency);
+        }
+        if (age.compareTo(refreshInterval) > 0) {
+            staleServedCounter.increment();
+            triggerRefresh();
+        }
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${exchange-rate.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            try {
+                refresh();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void triggerRefresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    private void refresh() {
+        try {
+            Map<String, ExchangeRateSnapshot> fetched = fetchTimer.recordCallable(this::fetchSnapshots);
+            // 주말, 영업일 11시 이전에는 빈 배열이 내려오므로 기존 스냅샷을 유지한다.
+            if (fetched == null || fetched.isEmpty()) {
+                refreshFailureCounter.increment();
+                log.warn("환율 API 응답이 비어 있어 기존 환율 스냅샷을 유지합니다.");
+                return;
+            }
+            snapshots = Map.copyOf(fetched);
+            refreshSuccessCounter.increment();
+        } catch (Exception e) {
+            refreshFailureCounter.increment();
+            log.warn("환율 스냅샷 갱신에 실패했습니다. {}", e.getMessage());
+        }
+    }
+
+    private Map<String, ExchangeRateSnapshot> fetchSnapshots() throws Exception {
+        String url = EXIM_URL + "?authkey=" + apiKey + "&data=AP01";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        JsonNode rootNode = objectMapper.readTree(response.getBody());
+
+        long version = versionSequence.incrementAndGet();
+        Instant fetchedAt = Instant.now();
+        Map<String, ExchangeRateSnapshot> fetched = new HashMap<>();
+        for (JsonNode node : rootNode) {
+            JsonNode unit = node.get("cur_unit");
+            JsonNode rate = node.get("kftc_bkpr");
+            if (unit == null || rate == null || rate.asText().isBlank()) {
+                continue;
+            }
+            int parsedRate = new BigDecimal(rate.asText().replace(",", "")).intValue();
+            fetched.put(unit.asText(),
+                new ExchangeRateSnapshot(unit.asText(), parsedRate, version, fetchedAt, false));
+        }
+        return fetched;
+    }
+
+    private ExchangeRateSnapshot fallback(String currency) {
+        if (!USD.equals(currency)) {
+            throw new GeneralHandler(ErrorStatus.EXTERNAL_API_ERROR);
+        }
+        fallbackServedCounter.increment();
+        return new ExchangeRateSnapshot(currency, fallbackUsdRate, 0L, Instant.now(), true);
+    }
+
+    private double snapshotAgeSeconds(String currency) {
+        ExchangeRateSnapshot snapshot = snapshots.get(currency);
+        return snapshot == null ? Double.NaN : snapshot.age(Instant.now()).toSeconds();
+    }
+
+    private double snapshotRate(String currency) {
+        ExchangeRateSnapshot snapshot = snapshots.get(currency);
+        return snapshot == null ? Double.NaN : snapshot.rate();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.linkcargo.domain.exchange;
+
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테스트, 부하 테스트용 고정 환율 제공자 (exchange-rate.provider=stub)
+ */
+@Component
+@ConditionalOnProperty(name = "exchange-rate.provider", havingValue = "stub")
+public class StubExchangeRateProvider implements ExchangeRateProvider {
+
+    private final int usdRate;
+    private final Instant createdAt = Instant.now();
+
+    public StubExchangeRateProvider(@Value("${exchange-rate.stub.usd:1320}") int usdRate) {
+        this.usdRate = usdRate;
+    }
+
+    @Override
+    public ExchangeRateSnapshot getSnapshot(String currency) {
+        return new ExchangeRateSnapshot(currency, usdRate, 1L, createdAt, false);
+    }
+}
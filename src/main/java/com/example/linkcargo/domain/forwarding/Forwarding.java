@@ -5,6 +5,7 @@ import com.example.linkcargo.global.entity.JpaBaseEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -25,6 +26,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "forwardings")
+@EntityListeners(ForwardingVersionListener.class)
 public class Forwarding extends JpaBaseEntity {
 
     @Id
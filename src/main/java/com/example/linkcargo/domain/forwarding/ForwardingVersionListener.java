@@ -0,0 +1,26 @@
+package com.example.linkcargo.domain.forwarding;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포워딩 업체가 저장, 수정, 삭제되면 포워딩 업체 데이터 버전을 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ForwardingVersionListener {
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Forwarding forwarding) {
+        dataVersionRegistry.bump(DataResource.FORWARDING);
+    }
+}
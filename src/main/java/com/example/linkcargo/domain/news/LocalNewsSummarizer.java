@@ -0,0 +1,59 @@
+package com.example.linkcargo.domain.news;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 API 없이 동작하는 요약기 (news.summarizer=local). 앞쪽 기사들의 첫 문장을 이어 붙인다.
+ */
+@Component
+@ConditionalOnProperty(name = "news.summarizer", havingValue = "local", matchIfMissing = true)
+public class LocalNewsSummarizer implements NewsSummarizer {
+
+    private final int maxSentences;
+    private final int maxSentenceLength;
+
+    public LocalNewsSummarizer(
+        @Value("${news.summarizer.local.max-sentences:3}") int maxSentences,
+        @Value("${news.summarizer.local.max-sentence-length:200}") int maxSentenceLength
+    ) {
+        this.maxSentences = maxSentences;
+        this.maxSentenceLength = maxSentenceLength;
+    }
+
+    @Override
+    public String summarize(String category, Stream<String> contents) {
+        List<String> sentences = new ArrayList<>();
+        Iterator<String> iterator = contents.iterator();
+        // 필요한 문장 수를 채우면 나머지 본문은 읽지 않는다
+        while (sentences.size() < maxSentences && iterator.hasNext()) {
+            String sentence = firstSentence(iterator.next());
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        return String.join(" ", sentences);
+    }
+
+    private String firstSentence(String content) {
+        if (content == null) {
+            return "";
+        }
+        String trimmed = content.strip();
+        int end = trimmed.length();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '.' || c == '!' || c == '?' || c == '\n') {
+                end = c == '\n' ? i : i + 1;
+                break;
+            }
+        }
+        String sentence = trimmed.substring(0, end).strip();
+        return sentence.length() > maxSentenceLength ? sentence.substring(0, maxSentenceLength) : sentence;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.news;
+
+/**
+ * 뉴스 본문 조회 결과
+ */
+public record NewsContent(
+    Long id,
+    String content
+) {
+
+}
@@ -0,0 +1,46 @@
+package com.example.linkcargo.domain.news;
+
+import com.example.linkcargo.global.entity.JpaBaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 카테고리(관심사)별 하루치 뉴스 요약
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "news_digests", uniqueConstraints = @UniqueConstraint(
+    name = "uk_news_digests_category_date", columnNames = {"category", "digest_date"}))
+public class NewsDigest extends JpaBaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String category; // 소문자로 정규화한 카테고리 또는 관심사
+
+    @Column(name = "digest_date", nullable = false)
+    private LocalDate digestDate;
+
+    @Column(nullable = false)
+    private Integer articleCount;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+}
@@ -0,0 +1,14 @@
+package com.example.linkcargo.domain.news;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NewsDigestRepository extends JpaRepository<NewsDigest, Long> {
+
+    Optional<NewsDigest> findByCategoryAndDigestDate(String category, LocalDate digestDate);
+
+    List<NewsDigest> findAllByDigestDateAndCategoryIn(LocalDate digestDate, Collection<String> categories);
+}
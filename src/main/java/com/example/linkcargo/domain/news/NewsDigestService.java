@@ -0,0 +1,178 @@
+package com.example.linkcargo.domain.news;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 카테고리(관심사)별 하루치 뉴스 요약 관리
+ * <p>
+ * 요약은 주기적으로 만들어 news_digests 에 저장하고, 대시보드는 저장된 요약을 조회만 한다. 아직 요약이 없는 관심사는 그 자리에서
+ * 만들어 응답하되 저장은 다음 주기에 맡긴다. 본문은 batch-size 단위로 나눠 읽어 요약기에 스트림으로 넘긴다.
+ */
+@Slf4j
+@Service
+public class NewsDigestService {
+
+    private final NewsIndex newsIndex;
+    private final NewsRepository newsRepository;
+    private final NewsDigestRepository newsDigestRepository;
+    private final NewsSummarizer newsSummarizer;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final int batchSize;
+    private final int maxRequestedCategories;
+
+    private final Set<String> requestedCategories = ConcurrentHashMap.newKeySet(); // 요약이 없어 요청 시 만든 관심사
+    private volatile LocalDate lastDigestDate;
+
+    public NewsDigestService(
+        NewsIndex newsIndex,
+        NewsRepository newsRepository,
+        NewsDigestRepository newsDigestRepository,
+        NewsSummarizer newsSummarizer,
+        DataVersionRegistry dataVersionRegistry,
+        @Value("${news.digest.batch-size:100}") int batchSize,
+        @Value("${news.digest.max-requested-categories:1000}") int maxRequestedCategories
+    ) {
+        this.newsIndex = newsIndex;
+        this.newsRepository = newsRepository;
+        this.newsDigestRepository = newsDigestRepository;
+        this.newsSummarizer = newsSummarizer;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.batchSize = batchSize;
+        this.maxRequestedCategories = maxRequestedCategories;
+    }
+
+    /**
+     * 관심사별 요약 조회. 저장된 요약은 한 번에 조회하고, 없는 관심사만 새로 만든다.
+     */
+    public List<NewsDigest> getDigests(List<String> interests, LocalDate digestDate) {
+        List<String> categories = interests.stream()
+            .map(NewsIndex::normalize)
+            .filter(category -> !category.isEmpty())
+            .distinct()
+            .toList();
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, NewsDigest> digestMap = newsDigestRepository
+            .findAllByDigestDateAndCategoryIn(digestDate, categories).stream()
+            .collect(Collectors.toMap(NewsDigest::getCategory, Function.identity(), (d1, d2) -> d1));
+
+        return categories.stream()
+            .map(category -> {
+                NewsDigest digest = digestMap.get(category);
+                if (digest != null) {
+                    return digest;
+                }
+                if (requestedCategories.size() < maxRequestedCategories) {
+                    requestedCategories.add(category);
+                }
+                return buildDigest(category, digestDate);
+            })
+            .toList();
+    }
+
+    // 오늘 등록된 카테고리와 요청된 관심사의 요약을 만든다. 날짜가 바뀌면 전날 요약을 한 번 더 마무리한다.
+    @Scheduled(fixedDelayString = "${news.digest.refresh-interval-ms:600000}")
+    public void refreshDigests() {
+        LocalDate today = LocalDate.now();
+        LocalDate previousDate = lastDigestDate;
+        if (previousDate != null && previousDate.isBefore(today)) {
+            refreshDigests(previousDate);
+            requestedCategories.clear();
+        }
+        refreshDigests(today);
+        lastDigestDate = today;
+    }
+
+    private void refreshDigests(LocalDate digestDate) {
+        LocalDateTime from = digestDate.atStartOfDay();
+        List<String> categories;
+        try {
+            categories = Stream.concat(
+                    newsRepository.findCategoriesCreatedBetween(from, from.plusDays(1)).stream()
+                        .map(NewsIndex::normalize),
+                    requestedCategories.stream())
+                .filter(category -> !category.isEmpty())
+                .distinct()
+                .toList();
+        } catch (RuntimeException e) {
+            log.warn("뉴스 요약 대상 카테고리를 조회하지 못했습니다. {}", e.getMessage());
+            return;
+        }
+
+        for (String category : categories) {
+            try {
+                refreshDigest(category, digestDate);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 먼저 저장한 경우
+                log.debug("뉴스 요약이 이미 저장되었습니다. category={}, date={}", category, digestDate);
+            } catch (RuntimeException e) {
+                log.warn("뉴스 요약을 만들지 못했습니다. category={}, date={} {}", category, digestDate, e.getMessage());
+            }
+        }
+    }
+
+    private void refreshDigest(String category, LocalDate digestDate) {
+        List<Long> newsIds = findNewsIds(category, digestDate);
+        NewsDigest digest = newsDigestRepository.findByCategoryAndDigestDate(category, digestDate)
+            .orElse(null);
+        // 기사 수가 그대로면 다시 만들지 않는다
+        if (digest != null && digest.getArticleCount() == newsIds.size()) {
+            return;
+        }
+
+        String summary = newsSummarizer.summarize(category, streamContents(newsIds));
+        if (digest == null) {
+            digest = NewsDigest.builder()
+                .category(category)
+                .digestDate(digestDate)
+                .build();
+        }
+        digest.setArticleCount(newsIds.size());
+        digest.setSummary(summary);
+        newsDigestRepository.save(digest);
+        dataVersionRegistry.bump(DataResource.NEWS);
+    }
+
+    private NewsDigest buildDigest(String category, LocalDate digestDate) {
+        List<Long> newsIds = findNewsIds(category, digestDate);
+        return NewsDigest.builder()
+            .category(category)
+            .digestDate(digestDate)
+            .articleCount(newsIds.size())
+            .summary(newsSummarizer.summarize(category, streamContents(newsIds)))
+            .build();
+    }
+
+    // 최신 기사부터
+    private List<Long> findNewsIds(String category, LocalDate digestDate) {
+        return newsIndex.search(category, digestDate).stream()
+            .sorted(Comparator.reverseOrder())
+            .toList();
+    }
+
+    private Stream<String> streamContents(List<Long> newsIds) {
+        return IntStream.iterate(0, from -> from < newsIds.size(), from -> from + batchSize)
+            .mapToObj(from -> newsIds.subList(from, Math.min(from + batchSize, newsIds.size())))
+            .flatMap(batch -> newsRepository.findContentsByIdIn(batch).stream())
+            .map(NewsContent::content);
+    }
+}
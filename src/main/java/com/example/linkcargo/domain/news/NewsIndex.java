@@ -0,0 +1,204 @@
+package com.example.linkcargo.domain.news;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 뉴스 제목, 카테고리 역색인
+ * <p>
+ * 제목은 두 글자 단위(bigram)로 색인하고, 후보를 찾은 뒤 제목에 관심사가 포함되는지 다시 확인하므로 기존 LIKE 검색과 결과가 같다.
+ * 카테고리는 값 그대로 색인한다. 보관 기간(retention-days) 안의 뉴스만 들고 있으며, 저장된 뉴스는 커밋 이후 바로 추가하고 다른
+ * 곳에서 들어온 뉴스는 created_at 범위 조회로 주기적으로 추가한다. 주기적 갱신으로 뉴스가 추가되거나 제거되면 NEWS 버전을 올린다.
+ */
+@Slf4j
+@Component
+public class NewsIndex {
+
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(5); // 늦게 커밋된 뉴스를 놓치지 않도록 겹쳐서 조회
+
+    private final NewsRepository newsRepository;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final Duration retention;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, NewsTitle> documents = new HashMap<>();
+    private final Map<String, Set<Long>> titlePostings = new HashMap<>();
+    private final Map<String, Set<Long>> categoryPostings = new HashMap<>();
+    private volatile LocalDateTime lastRefreshedAt; // null 이면 아직 불러오지 않음
+
+    public NewsIndex(
+        NewsRepository newsRepository,
+        DataVersionRegistry dataVersionRegistry,
+        @Value("${news.index.retention-days:7}") int retentionDays
+    ) {
+        this.newsRepository = newsRepository;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * 해당 날짜에 등록된 뉴스 중 제목에 관심사가 포함되거나 카테고리가 관심사와 같은 뉴스 아이디
+     */
+    public List<Long> search(String interest, LocalDate createdDate) {
+        if (lastRefreshedAt == null) {
+            refresh();
+        }
+        String keyword = normalize(interest);
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime from = createdDate.atStartOfDay();
+        LocalDateTime to = from.plusDays(1);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> matchedIds = new LinkedHashSet<>();
+            for (Long id : titleCandidates(keyword)) {
+                NewsTitle news = documents.get(id);
+                if (normalize(news.title()).contains(keyword)) {
+                    matchedIds.add(id);
+                }
+            }
+            matchedIds.addAll(categoryPostings.getOrDefault(keyword, Set.of()));
+
+            List<Long> newsIds = new ArrayList<>();
+            for (Long id : matchedIds) {
+                LocalDateTime createdAt = documents.get(id).createdAt();
+                if (createdAt != null && !createdAt.isBefore(from) && createdAt.isBefore(to)) {
+                    newsIds.add(id);
+                }
+            }
+            return newsIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(NewsTitle news) {
+        lock.writeLock().lock();
+        try {
+            addDocument(news);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 시작 시 1회, 이후 주기적으로 새 뉴스 추가 및 보관 기간이 지난 뉴스 제거
+    @Scheduled(fixedDelayString = "${news.index.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime retentionStart = now.minus(retention);
+        LocalDateTime from = lastRefreshedAt == null || lastRefreshedAt.minus(REFRESH_OVERLAP).isBefore(retentionStart)
+            ? retentionStart
+            : lastRefreshedAt.minus(REFRESH_OVERLAP);
+
+        List<NewsTitle> newsTitles;
+        try {
+            newsTitles = newsRepository.findTitlesCreatedFrom(from);
+        } catch (RuntimeException e) {
+            // 조회에 실패해도 현재 색인으로 계속 검색한다
+            log.warn("뉴스 색인을 갱신하지 못했습니다. {}", e.getMessage());
+            return;
+        }
+
+        boolean changed = false;
+        lock.writeLock().lock();
+        try {
+            for (NewsTitle newsTitle : newsTitles) {
+                changed |= addDocument(newsTitle);
+            }
+            changed |= evictBefore(retentionStart);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        lastRefreshedAt = now;
+        if (changed) {
+            dataVersionRegistry.bump(DataResource.NEWS);
+        }
+    }
+
+    private Collection<Long> titleCandidates(String keyword) {
+        if (keyword.length() < 2) {
+            return documents.keySet();
+        }
+        // 관심사의 bigram 중 가장 적은 뉴스를 가진 것만 후보로 삼는다
+        Set<Long> candidates = null;
+        for (String gram : bigrams(keyword)) {
+            Set<Long> posting = titlePostings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        return candidates;
+    }
+
+    // 새로 추가된 경우 true
+    private boolean addDocument(NewsTitle news) {
+        if (news.id() == null || documents.putIfAbsent(news.id(), news) != null) {
+            return false;
+        }
+        for (String gram : bigrams(normalize(news.title()))) {
+            titlePostings.computeIfAbsent(gram, key -> new HashSet<>()).add(news.id());
+        }
+        String category = normalize(news.category());
+        if (!category.isEmpty()) {
+            categoryPostings.computeIfAbsent(category, key -> new HashSet<>()).add(news.id());
+        }
+        return true;
+    }
+
+    // 제거된 뉴스가 있으면 true
+    private boolean evictBefore(LocalDateTime retentionStart) {
+        List<NewsTitle> expired = documents.values().stream()
+            .filter(news -> news.createdAt() == null || news.createdAt().isBefore(retentionStart))
+            .toList();
+        for (NewsTitle news : expired) {
+            documents.remove(news.id());
+            for (String gram : bigrams(normalize(news.title()))) {
+                removePosting(titlePostings, gram, news.id());
+            }
+            removePosting(categoryPostings, normalize(news.category()), news.id());
+        }
+        return !expired.isEmpty();
+    }
+
+    private void removePosting(Map<String, Set<Long>> postings, String key, Long id) {
+        Set<Long> posting = postings.get(key);
+        if (posting != null && posting.remove(id) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
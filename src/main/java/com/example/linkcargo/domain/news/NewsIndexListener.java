@@ -0,0 +1,41 @@
+package com.example.linkcargo.domain.news;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import jakarta.persistence.PostPersist;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 저장된 뉴스를 커밋 이후 {@link NewsIndex} 에 추가한다.
+ */
+@Component
+public class NewsIndexListener {
+
+    private final NewsIndex newsIndex;
+    private final DataVersionRegistry dataVersionRegistry;
+
+    // EntityManagerFactory 생성 중에 주입되므로 리포지토리를 쓰는 색인은 지연 주입한다
+    public NewsIndexListener(@Lazy NewsIndex newsIndex, DataVersionRegistry dataVersionRegistry) {
+        this.newsIndex = newsIndex;
+        this.dataVersionRegistry = dataVersionRegistry;
+    }
+
+    @PostPersist
+    public void onPersist(News news) {
+        NewsTitle newsTitle = NewsTitle.fromEntity(news);
+        dataVersionRegistry.bump(DataResource.NEWS);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            newsIndex.add(newsTitle);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                newsIndex.add(newsTitle);
+            }
+        });
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.linkcargo.domain.news;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface NewsRepository extends JpaRepository<News, Long> {
-    @Query("SELECT n FROM News n WHERE n.title LIKE %:category% AND FUNCTION('DATE', n.createdAt) = :createdAt")
-    List<News> findByCategoryAndCreatedDate(@Param("category") String category, @Param("createdAt") LocalDate createdAt);
 
+    // created_at 인덱스를 타도록 범위 조건으로 조회
+    @Query("SELECT new com.example.linkcargo.domain.news.NewsTitle(n.id, n.title, n.category, n.createdAt) "
+        + "FROM News n WHERE n.createdAt >= :from")
+    List<NewsTitle> findTitlesCreatedFrom(@Param("from") LocalDateTime from);
+
+    @Query("SELECT DISTINCT n.category FROM News n WHERE n.createdAt >= :from AND n.createdAt < :to")
+    List<String> findCategoriesCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.example.linkcargo.domain.news.NewsContent(n.id, n.content) FROM News n WHERE n.id IN :ids")
+    List<NewsContent> findContentsByIdIn(@Param("ids") Collection<Long> ids);
 }
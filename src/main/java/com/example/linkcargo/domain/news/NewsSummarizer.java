@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.news;
+
+import java.util.stream.Stream;
+
+/**
+ * 뉴스 요약기. 본문은 필요한 만큼만 읽히도록 스트림으로 전달되며, 구현체는 본문 전체를 한 문자열로 모으지 않아야 한다.
+ */
+public interface NewsSummarizer {
+
+    String summarize(String category, Stream<String> contents);
+}
@@ -0,0 +1,18 @@
+package com.example.linkcargo.domain.news;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문(content)을 제외한 뉴스 조회 결과
+ */
+public record NewsTitle(
+    Long id,
+    String title,
+    String category,
+    LocalDateTime createdAt
+) {
+
+    public static NewsTitle fromEntity(News news) {
+        return new NewsTitle(news.getId(), news.getTitle(), news.getCategory(), news.getCreatedAt());
+    }
+}
@@ -4,6 +4,8 @@ import com.example.linkcargo.domain.port.dto.request.PortCreateUpdateRequest;
 import com.example.linkcargo.domain.port.dto.response.PortReadResponse;
 import com.example.linkcargo.domain.schedule.PortType;
 import com.example.linkcargo.domain.schedule.dto.response.ScheduleListResponse;
+import com.example.linkcargo.global.etag.ConditionalGet;
+import com.example.linkcargo.global.etag.DataResource;
 import com.example.linkcargo.global.response.ApiResponse;
 import com.example.linkcargo.global.response.code.resultCode.SuccessStatus;
 import com.example.linkcargo.global.security.CustomUserDetail;
@@ -40,6 +42,7 @@ public class PortController {
 
     @Operation(summary = "항구 리스트 조회 ", description = "모든 항구를 조회 합니다. PortReadResponse 사용")
     @GetMapping("")
+    @ConditionalGet(resources = DataResource.PORT, maxAge = 60)
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
     })
@@ -80,6 +83,7 @@ public class PortController {
 
     @Operation(summary = "항구 타입에 따른 조회 ", description = "PortType에 따라서 항구를 조회 합니다. PortReadResponse 사용")
     @GetMapping("/search")
+    @ConditionalGet(resources = DataResource.PORT, maxAge = 60)
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
     })
@@ -3,6 +3,8 @@ package com.example.linkcargo.domain.port;
 import com.example.linkcargo.domain.port.dto.request.PortCreateUpdateRequest;
 import com.example.linkcargo.domain.port.dto.response.PortReadResponse;
 import com.example.linkcargo.domain.schedule.PortType;
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.PortHandler;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class PortService {
 
     private final PortRepository portRepository;
+    private final DataVersionRegistry dataVersionRegistry;
 
     @Transactional
     public Long createPort(PortCreateUpdateRequest request) {
@@ -32,6 +35,7 @@ public class PortService {
 
         try {
             Port resultPort = portRepository.save(port);
+            dataVersionRegistry.bump(DataResource.PORT);
             return resultPort.getId();
         } catch (Exception e){
             throw new PortHandler(ErrorStatus.PORT_CREATED_FAIL);
@@ -60,6 +64,7 @@ public class PortService {
 
         try {
             portRepository.save(existingPort);
+            dataVersionRegistry.bump(DataResource.PORT);
         } catch (Exception e) {
             throw new PortHandler(ErrorStatus.PORT_UPDATED_FAIL);
         }
@@ -72,6 +77,7 @@ public class PortService {
 
         try {
             portRepository.delete(existingPort);
+            dataVersionRegistry.bump(DataResource.PORT);
         } catch (Exception e) {
             throw new PortHandler(ErrorStatus.PORT_DELETED_FAIL);
         }
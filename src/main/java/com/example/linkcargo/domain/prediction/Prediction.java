@@ -3,6 +3,7 @@ package com.example.linkcargo.domain.prediction;
 import com.example.linkcargo.global.entity.JpaBaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -22,6 +23,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "predictions")
+@EntityListeners(PredictionIndexListener.class)
 public class Prediction extends JpaBaseEntity {
 
     @Id
@@ -0,0 +1,142 @@
+package com.example.linkcargo.domain.prediction;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운임 지수 예측값 시계열. 가장 이른 연월을 0번으로 하는 int 배열에 월별 값을 담아 두고, 연월을 배열 위치로 바꿔 조회한다.
+ * <p>
+ * 불변 객체이므로 여러 스레드에서 동시에 읽어도 된다. 값이 없는 달은 건너뛴다.
+ */
+@Slf4j
+public final class PredictionIndex {
+
+    public static final PredictionIndex EMPTY = new PredictionIndex(YearMonth.of(1970, 1), new int[0]);
+
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    @Getter
+    private final YearMonth start; // values[0] 의 연월
+    private final int[] values;
+
+    private PredictionIndex(YearMonth start, int[] values) {
+        this.start = start;
+        this.values = values;
+    }
+
+    // 시작 연월과 월별 값이 모두 같은지 (다시 불러온 값이 바뀌었는지 확인)
+    public boolean hasSameValues(PredictionIndex other) {
+        return start.equals(other.start) && Arrays.equals(values, other.values);
+    }
+
+    public static PredictionIndex of(List<Prediction> predictions) {
+        if (predictions.isEmpty()) {
+            return EMPTY;
+        }
+        YearMonth start = null;
+        YearMonth end = null;
+        for (Prediction prediction : predictions) {
+            YearMonth yearMonth = YearMonth.of(prediction.getYear(), prediction.getMonth());
+            start = start == null || yearMonth.isBefore(start) ? yearMonth : start;
+            end = end == null || yearMonth.isAfter(end) ? yearMonth : end;
+        }
+
+        int[] values = new int[offset(start, end) + 1];
+        Arrays.fill(values, MISSING);
+        for (Prediction prediction : predictions) {
+            int position = offset(start, YearMonth.of(prediction.getYear(), prediction.getMonth()));
+            if (values[position] != MISSING) {
+                continue; // 같은 달이 중복되면 먼저 조회된 값을 사용
+            }
+            try {
+                values[position] = Integer.parseInt(prediction.getFreightCostIndex().trim());
+            } catch (NumberFormatException e) {
+                log.warn("운임 지수 예측값을 읽지 못했습니다. predictionId={}, value={}",
+                    prediction.getId(), prediction.getFreightCostIndex());
+            }
+        }
+        return new PredictionIndex(start, values);
+    }
+
+    /**
+     * 해당 월의 운임 지수
+     */
+    public OptionalInt find(YearMonth yearMonth) {
+        int position = offset(start, yearMonth);
+        if (position < 0 || position >= values.length || values[position] == MISSING) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(values[position]);
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 사이의 운임 지수를 연월 순으로 반환
+     */
+    public List<Point> range(YearMonth from, YearMonth to) {
+        int first = Math.max(offset(start, from), 0);
+        int last = Math.min(offset(start, to), values.length - 1);
+
+        List<Point> points = new ArrayList<>();
+        for (int position = first; position <= last; position++) {
+            if (values[position] != MISSING) {
+                points.add(new Point(start.plusMonths(position), values[position]));
+            }
+        }
+        return points;
+    }
+
+    /**
+     * from ~ to 사이에서 운임 지수가 가장 낮은 달. 같은 값이면 이른 달을 반환한다.
+     */
+    public Optional<Point> min(YearMonth from, YearMonth to) {
+        int first = Math.max(offset(start, from), 0);
+        int last = Math.min(offset(start, to), values.length - 1);
+
+        int minPosition = -1;
+        for (int position = first; position <= last; position++) {
+            if (values[position] != MISSING && (minPosition < 0 || values[position] < values[minPosition])) {
+                minPosition = position;
+            }
+        }
+        return minPosition < 0
+            ? Optional.empty()
+            : Optional.of(new Point(start.plusMonths(minPosition), values[minPosition]));
+    }
+
+    /**
+     * from ~ to 사이에서 값이 있는 달끼리 이웃한 쌍
+     */
+    public List<Transition> transitions(YearMonth from, YearMonth to) {
+        List<Point> points = range(from, to);
+        List<Transition> transitions = new ArrayList<>();
+        for (int i = 0; i + 1 < points.size(); i++) {
+            transitions.add(new Transition(points.get(i), points.get(i + 1)));
+        }
+        return transitions;
+    }
+
+    public int size() {
+        return (int) Arrays.stream(values).filter(value -> value != MISSING).count();
+    }
+
+    private static int offset(YearMonth start, YearMonth yearMonth) {
+        return (yearMonth.getYear() - start.getYear()) * 12 + yearMonth.getMonthValue() - start.getMonthValue();
+    }
+
+    public record Point(YearMonth yearMonth, int freightCostIndex) {
+
+    }
+
+    public record Transition(Point current, Point next) {
+
+        public boolean isRising() {
+            return next.freightCostIndex() > current.freightCostIndex();
+        }
+    }
+}
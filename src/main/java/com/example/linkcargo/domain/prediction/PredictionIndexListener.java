@@ -0,0 +1,47 @@
+package com.example.linkcargo.domain.prediction;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 예측값이 바뀌면 커밋 이후 {@link PredictionIndex} 를 다시 불러오도록 표시한다.
+ */
+@Component
+public class PredictionIndexListener {
+
+    private final PredictionIndexService predictionIndexService;
+    private final DataVersionRegistry dataVersionRegistry;
+
+    // EntityManagerFactory 생성 중에 주입되므로 리포지토리를 쓰는 서비스는 지연 주입한다
+    public PredictionIndexListener(
+        @Lazy PredictionIndexService predictionIndexService,
+        DataVersionRegistry dataVersionRegistry
+    ) {
+        this.predictionIndexService = predictionIndexService;
+        this.dataVersionRegistry = dataVersionRegistry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Prediction prediction) {
+        dataVersionRegistry.bump(DataResource.PREDICTION);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            predictionIndexService.markStale();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                predictionIndexService.markStale();
+            }
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.linkcargo.domain.prediction;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 운임 지수 예측값 관리
+ * <p>
+ * 예측값 전체를 {@link PredictionIndex} 로 메모리에 들고 있어 대시보드 조회 시 DB 를 타지 않는다. 예측값이 저장, 수정, 삭제되면
+ * 다음 조회 때 다시 불러오고, 다른 곳(AI 서버)에서 들어온 값은 주기적으로 다시 불러와 반영한다. 다시 불러온 값이 바뀌었으면
+ * PREDICTION 버전을 올려 엔티티 리스너를 거치지 않은 변경도 ETag 에 반영한다.
+ * <p>
+ * 첫 적재는 애플리케이션 준비 시점에 하고, 그 전에 들어온 조회는 첫 적재가 끝날 때까지 기다린다. 빈 인덱스를 돌려주면 예측값이 없다는
+ * 오류(PREDICTION401)가 잘못 나가기 때문이다. 이후 다시 불러오는 동안에는 기다리지 않고 이전 인덱스로 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PredictionIndexService {
+
+    private final PredictionRepository predictionRepository;
+    private final DataVersionRegistry dataVersionRegistry;
+
+    private final AtomicReference<PredictionIndex> currentIndex = new AtomicReference<>(PredictionIndex.EMPTY);
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+    private volatile boolean loaded = false;
+
+    public PredictionIndex getIndex() {
+        if (!loaded) {
+            loadInitial();
+            return currentIndex.get();
+        }
+        if (stale.compareAndSet(true, false)) {
+            load();
+        }
+        return currentIndex.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        loadInitial();
+    }
+
+    public void markStale() {
+        stale.set(true);
+    }
+
+    // 주기적으로 전체를 다시 불러온다
+    @Scheduled(fixedDelayString = "${prediction.reload-interval-ms:300000}")
+    public void reload() {
+        stale.set(false);
+        load();
+    }
+
+    // 첫 적재는 한 번만 수행하고, 동시에 들어온 조회는 끝날 때까지 기다린다
+    private synchronized void loadInitial() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private void load() {
+        try {
+            PredictionIndex index = PredictionIndex.of(predictionRepository.findAll());
+            PredictionIndex previous = currentIndex.getAndSet(index);
+            loaded = true;
+            if (!index.hasSameValues(previous)) {
+                dataVersionRegistry.bump(DataResource.PREDICTION);
+            }
+            log.debug("운임 지수 예측값 {}건 적용", index.size());
+        } catch (RuntimeException e) {
+            // 조회에 실패해도 현재 값으로 계속 응답하고, 다음 조회 때 다시 시도한다
+            stale.set(true);
+            log.warn("운임 지수 예측값을 다시 불러오지 못했습니다. {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.linkcargo.domain.quotation;
+
+public enum CostCalculationKernel {
+    BIG_DECIMAL, // 기존 BigDecimal 계산
+    FIXED_POINT // long 기반 고정소수점 계산
+}
@@ -0,0 +1,123 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.tariff.RateCard;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * long 기반 고정소수점 비용 계산 커널
+ * <p>
+ * QuotationCalculationService 의 BigDecimal 계산과 같은 위치에서 같은 방식(HALF_UP, 소수점 2자리)으로 반올림하고, 나머지 연산은
+ * 정확히 수행하므로 결과(스케일 포함)가 BigDecimal 경로와 같다. 금액은 센트(10^-2), CBM 및 중간 합계는 10^-9 단위로 다룬다.
+ * <p>
+ * 박스 치수가 소수점 3자리, 물품 가액이 소수점 4자리, 요율이 소수점 2자리(국외 경비는 9자리)를 넘거나 long 범위를 넘으면
+ * ArithmeticException 을 던지며, 호출 측은 BigDecimal 경로로 다시 계산한다.
+ */
+final class FixedPointCostKernel {
+
+    private static final int DIMENSION_SCALE = 3;
+    private static final int VALUE_SCALE = 4;
+    private static final int FEE_SCALE = 2;
+    private static final int RESULT_SCALE = 9;
+    private static final long ONE = 1_000_000_000L; // 10^9
+    private static final long CENTS = 10_000_000L; // 10^(9-2)
+
+    private FixedPointCostKernel() {
+    }
+
+    static BigDecimal calculateTotalCost(List<Cargo> cargos, int freight, int exchangeRate, RateCard rateCard) {
+        Cargo firstCargo = cargos.get(0);
+
+        long totalCbm = 0; // 10^-9 CBM
+        long totalForeignCents = 0;
+        int totalQuantity = 0;
+        int cbmScale = 0;
+
+        for (Cargo cargo : cargos) {
+            Cargo.CargoInfo cargoInfo = cargo.getCargoInfo();
+            Cargo.BoxSize boxSize = cargoInfo.getBoxSize();
+            int quantity = cargoInfo.getTotalQuantity();
+            int boxQuantity = quantity / cargoInfo.getQuantityPerBox();
+
+            long cbmPerBox = Math.multiplyExact(
+                Math.multiplyExact(toScaledLong(boxSize.getWidth(), DIMENSION_SCALE),
+                    toScaledLong(boxSize.getHeight(), DIMENSION_SCALE)),
+                toScaledLong(boxSize.getDepth(), DIMENSION_SCALE));
+            totalCbm = Math.addExact(totalCbm, Math.multiplyExact(cbmPerBox, boxQuantity));
+            cbmScale = Math.max(cbmScale,
+                boxSize.getWidth().scale() + boxSize.getHeight().scale() + boxSize.getDepth().scale());
+
+            // 외화 환산 단가 (반올림 지점 1)
+            long unitPriceCents = divideHalfUp(toScaledLong(cargoInfo.getValue(), VALUE_SCALE),
+                Math.multiplyExact(exchangeRate, 100L));
+            totalForeignCents = Math.addExact(totalForeignCents, Math.multiplyExact(unitPriceCents, quantity));
+            totalQuantity = Math.addExact(totalQuantity, quantity);
+        }
+
+        // 국내 발생 경비 (각 항목별 반올림)
+        long thc = perCbmFeeCents(totalCbm, rateCard.thcPerCbm(), exchangeRate);
+        long cfsCharge = perCbmFeeCents(totalCbm, rateCard.cfsChargePerCbm(), exchangeRate);
+        long wharfageFee = perCbmFeeCents(totalCbm, rateCard.wharfageFeePerCbm(), exchangeRate);
+        long documentFee = divideHalfUp(toScaledLong(rateCard.documentFee(), FEE_SCALE), exchangeRate);
+        long handlingFee = divideHalfUp(toScaledLong(rateCard.handlingFee(), FEE_SCALE), exchangeRate);
+        long customsClearanceFee = divideHalfUp(toScaledLong(rateCard.customsClearanceFee(), FEE_SCALE), exchangeRate);
+        long domesticTrucking = divideHalfUp(toScaledLong(rateCard.domesticTrucking(), FEE_SCALE), exchangeRate);
+        long amsCents = toScaledLong(rateCard.amsFee(), FEE_SCALE);
+        long totalDomesticCents = Math.addExact(Math.addExact(Math.addExact(thc, cfsCharge), wharfageFee),
+            Math.addExact(Math.addExact(Math.addExact(documentFee, handlingFee),
+                Math.addExact(customsClearanceFee, domesticTrucking)), amsCents));
+
+        // Incoterms 개당 원가
+        long fobCents = divideHalfUp(
+            Math.addExact(totalDomesticCents - amsCents, totalForeignCents), totalQuantity);
+
+        // 국외 발생 경비
+        long freightCost = Math.multiplyExact(totalCbm, freight);
+        long cargoInsurance = 0;
+        boolean cif = Objects.equals(firstCargo.getIncoterms(), "CIF");
+        if (cif) {
+            long cfrCents = Math.addExact(divideHalfUp(Math.addExact(freightCost, Math.multiplyExact(amsCents, CENTS)),
+                Math.multiplyExact(totalQuantity, CENTS)), fobCents);
+            // CFR * 1.1 * 0.0004 * 수량 -> 10^-7 단위, 10^-9 로 환산
+            cargoInsurance = Math.multiplyExact(Math.multiplyExact(cfrCents, 44L * 100L), totalQuantity);
+        }
+        long inspectionAndTrucking = Math.addExact(toScaledLong(rateCard.inspectionFee(), RESULT_SCALE),
+            toScaledLong(rateCard.overseaTrucking(), RESULT_SCALE));
+        long totalOversea = Math.addExact(Math.addExact(freightCost, cargoInsurance), inspectionAndTrucking);
+
+        long total = Math.addExact(Math.multiplyExact(totalDomesticCents, CENTS), totalOversea);
+
+        // 원화 환산은 long 범위를 넘기 쉬우므로 마지막 곱셈만 BigDecimal 로 수행하고, BigDecimal 경로의 결과 스케일과 맞춘다
+        int resultScale = Math.max(Math.max(2, Math.max(cbmScale, cif ? 8 : 0)), Math.max(rateCard.amsFee().scale(),
+            Math.max(rateCard.inspectionFee().scale(), rateCard.overseaTrucking().scale())));
+        return BigDecimal.valueOf(total, RESULT_SCALE)
+            .multiply(BigDecimal.valueOf(exchangeRate))
+            .setScale(resultScale);
+    }
+
+    // CBM 당 요율(원)의 외화 환산 금액 (센트). 정수 요율은 10^-2 단위로 키우지 않아 long 범위를 넓게 쓴다
+    private static long perCbmFeeCents(long totalCbm, BigDecimal feePerCbm, int exchangeRate) {
+        if (feePerCbm.signum() == 0 || feePerCbm.stripTrailingZeros().scale() <= 0) {
+            return divideHalfUp(Math.multiplyExact(totalCbm, toScaledLong(feePerCbm, 0)),
+                Math.multiplyExact(exchangeRate, CENTS));
+        }
+        return divideHalfUp(Math.multiplyExact(totalCbm, toScaledLong(feePerCbm, FEE_SCALE)),
+            Math.multiplyExact(exchangeRate, ONE));
+    }
+
+    private static long toScaledLong(BigDecimal value, int scale) {
+        return value.setScale(scale).unscaledValue().longValueExact();
+    }
+
+    // HALF_UP 반올림 나눗셈
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder != 0 && remainder >= Math.abs(divisor) - remainder) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
@@ -9,10 +9,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 @Document(collection = "quotations")
+@CompoundIndexes({
+    // 화주의 같은 스케줄 견적서 중복 확인
+    @CompoundIndex(name = "consignor_schedule", def = "{'consignorId': 1, 'freight.scheduleId': 1}"),
+    // 화주의 견적서 이력 (생성일, id 역순 커서 페이징)
+    @CompoundIndex(name = "consignor_created_at_id", def = "{'consignorId': 1, 'created_at': -1, '_id': -1}"),
+    // 원본 견적서별 상태 조회, 총 비용 정렬 (id 또는 원본 견적서 조회의 $or 분기도 사용)
+    @CompoundIndex(name = "original_status_total_cost", def = "{'originalQuotationId': 1, 'quotationStatus': 1, 'cost.totalCost': 1}"),
+    // 상태별 id 순 키셋 페이징 (예측 견적서 일괄 재계산)
+    @CompoundIndex(name = "status_id", def = "{'quotationStatus': 1, '_id': 1}"),
+    // 원본 견적서당 예측 견적서는 하나 (계산 작업 재시도, 중복 점유 시 중복 저장 방지)
+    @CompoundIndex(name = "original_prediction_sheet", def = "{'originalQuotationId': 1}", unique = true,
+        partialFilter = "{'quotationStatus': 'PREDICTION_SHEET'}")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -66,6 +83,8 @@ public class Quotation extends MongoBaseEntity {
 
         private FreightCost freightCost;
 
+        // 정렬($sort)이 숫자 순서가 되도록 문자열이 아닌 Decimal128 로 저장
+        @Field(targetType = FieldType.DECIMAL128)
         private BigDecimal totalCost;
     }
 
@@ -1,19 +1,24 @@
 package com.example.linkcargo.domain.quotation;
 
 import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.cargo.CargoDerivedMetricsWriter;
 import com.example.linkcargo.domain.cargo.CargoRepository;
-import com.example.linkcargo.domain.schedule.Schedule;
-import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.example.linkcargo.domain.exchange.ExchangeRateProvider;
+import com.example.linkcargo.domain.schedule.ScheduleRoute;
+import com.example.linkcargo.domain.schedule.ScheduleRouteCache;
+import com.example.linkcargo.domain.tariff.RateCard;
+import com.example.linkcargo.domain.tariff.TariffService;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.CargoHandler;
 import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
 import com.example.linkcargo.global.response.exception.handler.ScheduleHandler;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,11 +26,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
@@ -33,14 +36,18 @@ import org.springframework.web.client.RestTemplate;
 @Transactional(readOnly = true)
 public class QuotationCalculationService {
 
-    @Value("${api-key.export-import-bok.secretKey}")
-    private String apiKey;
+    // todo
+    // 임시 운임 비용 -> 운임 비용 예측 AI API를 사용해 반환 예정
+    private static final Integer DEFAULT_FREIGHT_COST = 10;
 
     private final QuotationRepository quotationRepository;
     private final CargoRepository cargoRepository;
-    private final ScheduleRepository scheduleRepository;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final ScheduleRouteCache scheduleRouteCache;
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final TariffService tariffService;
+    private final QuotationCostCache quotationCostCache;
+    private final QuotationCostMetrics quotationCostMetrics;
+    private final CargoDerivedMetricsWriter cargoDerivedMetricsWriter;
 
     @Getter
     @Setter
@@ -93,60 +100,65 @@ public class QuotationCalculationService {
         private BigDecimal totalOverseaExpenses; // 국외 발생 총 경비
     }
 
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    static // 운임과 무관한 비용 계산 기준 (운임 지수만 바꿔 여러 번 계산할 때 재사용)
+    public class CostBasis {
+        private BigDecimal totalCBM; // 모든 화물의 CBM
+        private QuotationDomesticExpense domesticExpense; // 국내 발생 경비
+        private BigDecimal incotermsFOB; // Incoterms 개당 원가
+        private Integer totalExportQuantity; // 총 수출 물품 수량
+        private String incoterms; // 인코텀즈 종류
+        private Integer exchangeRate; // 적용 환율
+        private RateCard rateCard; // 적용 요율
+    }
 
-    public List<CargoBaseInfo> processCargos(List<Cargo> cargos, Integer appliedExchangeRate) {
-        BigDecimal exchangeRate = new BigDecimal(appliedExchangeRate);
 
+    public List<CargoBaseInfo> processCargos(List<Cargo> cargos, Integer appliedExchangeRate) {
         return cargos.stream()
             .map(cargo -> {
-                BigDecimal cargoValue = cargo.getCargoInfo().getValue();
-                Integer cargoQuantity = cargo.getCargoInfo().getTotalQuantity();
-                Integer quantityPerBox = cargo.getCargoInfo().getQuantityPerBox();
-                int totalBoxQuantity = cargoQuantity / quantityPerBox;
-                BigDecimal unitPriceInForeignCurrency = cargoValue.divide(exchangeRate, 2, RoundingMode.HALF_UP);
-                BigDecimal boxWidth = cargo.getCargoInfo().getBoxSize().getWidth();
-                BigDecimal boxHeight = cargo.getCargoInfo().getBoxSize().getHeight();
-                BigDecimal boxDepth = cargo.getCargoInfo().getBoxSize().getDepth();
-                BigDecimal CBMPerBox = boxWidth.multiply(boxHeight).multiply(boxDepth);
-                BigDecimal totalCBM = CBMPerBox.multiply(BigDecimal.valueOf(totalBoxQuantity));
+                Cargo.CargoInfo cargoInfo = cargo.getCargoInfo();
+                // 저장 시점에 계산된 파생 지표 사용 (환율이 바뀐 경우 외화 지표만 다시 계산)
+                Cargo.DerivedMetrics metrics = cargo.derivedMetricsFor(appliedExchangeRate);
 
                 return CargoBaseInfo.builder()
-                    .cargoValue(cargoValue)
-                    .totalExportQuantity(cargoQuantity)
-                    .totalBoxQuantity(totalBoxQuantity)
-                    .quantityPerBox(quantityPerBox)
+                    .cargoValue(cargoInfo.getValue())
+                    .totalExportQuantity(cargoInfo.getTotalQuantity())
+                    .totalBoxQuantity(metrics.getTotalBoxQuantity())
+                    .quantityPerBox(cargoInfo.getQuantityPerBox())
                     .totalAmountInKRW(260000)
-                    .unitPriceInForeignCurrency(unitPriceInForeignCurrency)
-                    .totalAmountInForeignCurrency(unitPriceInForeignCurrency.multiply(new BigDecimal(cargoQuantity)))
-                    .boxWidth(boxWidth)
-                    .boxHeight(boxHeight)
-                    .boxDepth(boxDepth)
-                    .CBMPerBox(CBMPerBox)
-                    .totalCBM(totalCBM)
+                    .unitPriceInForeignCurrency(metrics.getUnitPriceInForeignCurrency())
+                    .totalAmountInForeignCurrency(metrics.getTotalAmountInForeignCurrency())
+                    .boxWidth(cargoInfo.getBoxSize().getWidth())
+                    .boxHeight(cargoInfo.getBoxSize().getHeight())
+                    .boxDepth(cargoInfo.getBoxSize().getDepth())
+                    .CBMPerBox(metrics.getCbmPerBox())
+                    .totalCBM(metrics.getTotalCbm())
                     .build();
             })
 
             .collect(Collectors.toList());
     }
 
-    public QuotationDomesticExpense calculateDomesticExpense(BigDecimal totalCBM, int exchange) {
+    public QuotationDomesticExpense calculateDomesticExpense(BigDecimal totalCBM, int exchange, RateCard rateCard) {
         BigDecimal exchangeRate = new BigDecimal(exchange);
 
-        BigDecimal THC = totalCBM.multiply(BigDecimal.valueOf(6500))
+        BigDecimal THC = totalCBM.multiply(rateCard.thcPerCbm())
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal CFS_CHARGE = totalCBM.multiply(BigDecimal.valueOf(6500))
+        BigDecimal CFS_CHARGE = totalCBM.multiply(rateCard.cfsChargePerCbm())
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal WHARFAGE_FEE = totalCBM.multiply(BigDecimal.valueOf(210))
+        BigDecimal WHARFAGE_FEE = totalCBM.multiply(rateCard.wharfageFeePerCbm())
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal DOCUMENT_FEE = BigDecimal.valueOf(35000 * 1.1)
+        BigDecimal DOCUMENT_FEE = rateCard.documentFee()
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal HANDLING_FEE = BigDecimal.valueOf(30000 * 1.1)
+        BigDecimal HANDLING_FEE = rateCard.handlingFee()
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal CUSTOMS_CLEARANCE_FEE = BigDecimal.valueOf(30000 * 1.1)
+        BigDecimal CUSTOMS_CLEARANCE_FEE = rateCard.customsClearanceFee()
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal DOMESTIC_TRUCKING = BigDecimal.valueOf(150000 * 1.1)
+        BigDecimal DOMESTIC_TRUCKING = rateCard.domesticTrucking()
             .divide(exchangeRate, 2, RoundingMode.HALF_UP);
-        BigDecimal AMForAFS = BigDecimal.valueOf(30);
+        BigDecimal AMForAFS = rateCard.amsFee();
 
         return QuotationDomesticExpense.builder()
             .THC(THC)
@@ -173,7 +185,8 @@ public class QuotationCalculationService {
         Integer totalExportQuantity,
         BigDecimal incotermsPOB,
         String incotermsType,
-        Integer freight
+        Integer freight,
+        RateCard rateCard
     ) {
         BigDecimal freightCost = totalCBM.multiply(BigDecimal.valueOf(freight));
 
@@ -187,8 +200,8 @@ public class QuotationCalculationService {
             .multiply(BigDecimal.valueOf(0.0004))
             .multiply(BigDecimal.valueOf(totalExportQuantity));
 
-        BigDecimal inspectionFee = new BigDecimal("250.00");
-        BigDecimal overseaTrucking =  new BigDecimal("250.00");
+        BigDecimal inspectionFee = rateCard.inspectionFee();
+        BigDecimal overseaTrucking = rateCard.overseaTrucking();
 
 
         BigDecimal incoterms = null;
@@ -238,47 +251,74 @@ public class QuotationCalculationService {
             .build();
     }
 
-    // 실시간 환율 라이브러리
-    public String getExchange() {
-        String url = "https://www.koreaexim.go.kr/site/program/financial/exchangeJSON" +
-            "?authkey=" + apiKey +
-            "&data=AP01";
-
-        try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
-            for (JsonNode node : rootNode) {
-                if ("미국 달러".equals(node.get("cur_nm").asText())) {
-                    return node.get("kftc_bkpr").asText();
-                }
-            }
-        } catch (Exception ignored) {
-        }
-        return "1320";
+    public BigDecimal calculateTotalCost(Quotation inputQuotation, Integer freightCost) {
+        return calculateTotalCost(inputQuotation, freightCost, getUsdRate());
     }
 
-    public BigDecimal calculateTotalCost(Quotation inputQuotation, Integer freightCost) {
-        Quotation quotation = quotationRepository.findById(inputQuotation.getId())
+    public BigDecimal calculateTotalCost(Quotation inputQuotation, Integer freightCost, int applied_exchange_rate) {
+        Quotation quotation = quotationCostMetrics.record(QuotationCostStage.QUOTATION_LOAD,
+                () -> quotationRepository.findById(inputQuotation.getId()))
             .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_NOT_FOUND));
 
         List<String> cargoIds = quotation.getCost().getCargoIds();
-        List<Cargo> cargos = cargoIds.stream()
-            .map(cargoId -> cargoRepository.findById(cargoId)
-                .orElseThrow(() -> new CargoHandler(ErrorStatus.CARGO_NOT_FOUND)))
-            .toList();
 
-        Cargo firstCargo = cargos.get(0);
+        // 화물 수정 횟수만 조회해 캐시 키를 만들고, 캐시에 없을 때만 화물 전체를 조회해 계산
+        QuotationCostCache.Key key = costCacheKey(quotation, findCargoRevisions(cargoIds), freightCost,
+            applied_exchange_rate);
+        return quotationCostCache.get(key, () -> calculateTotalCost(findCargos(cargoIds, applied_exchange_rate), freightCost,
+            applied_exchange_rate, findRateCard(quotation)));
+    }
 
-        // 화물정보
-        BigDecimal totalWeight = cargos.stream()
-            .map(cargo -> cargo.getCargoInfo().getWeight())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    // 조회된 화물 목록으로 비용 계산 (DB 조회 없음), 계산 커널 선택
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BigDecimal calculateTotalCost(List<Cargo> cargos, Integer freightCost, int applied_exchange_rate,
+        RateCard rateCard, CostCalculationKernel kernel) {
+        if (kernel == CostCalculationKernel.FIXED_POINT) {
+            try {
+                return FixedPointCostKernel.calculateTotalCost(cargos, freightCost, applied_exchange_rate, rateCard);
+            } catch (ArithmeticException ignored) {
+                // 고정소수점 범위를 벗어난 입력은 BigDecimal 경로로 계산
+            }
+        }
+        return calculateTotalCost(cargos, freightCost, applied_exchange_rate, rateCard);
+    }
+
+    // 조회된 화물 목록으로 비용 계산 (DB 조회 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BigDecimal calculateTotalCost(List<Cargo> cargos, Integer freightCost, int applied_exchange_rate,
+        RateCard rateCard) {
+        return calculateTotalCost(prepareCostBasis(cargos, applied_exchange_rate, rateCard), freightCost);
+    }
 
-        // 환율
-        int applied_exchange_rate = Integer.parseInt(getExchange());
+    /**
+     * 운임 지수별 총 비용 계산 (what-if). 운임과 무관한 비용은 한 번만 계산하고 운임 관련 항목만 지수별로 다시 계산한다.
+     */
+    public List<BigDecimal> calculateTotalCosts(Quotation quotation, List<Integer> freightCosts) {
+        int applied_exchange_rate = getUsdRate();
+        List<Cargo> cargos = findCargos(quotation.getCost().getCargoIds(), applied_exchange_rate);
+        List<Long> cargoRevisions = cargos.stream().map(Cargo::getRevision).toList();
+
+        // 캐시에 없는 운임 지수가 있을 때만 공통 비용을 계산
+        CostBasis[] costBasis = new CostBasis[1];
+        return freightCosts.stream()
+            .map(freightCost -> quotationCostCache.get(
+                costCacheKey(quotation, cargoRevisions, freightCost, applied_exchange_rate),
+                () -> {
+                    if (costBasis[0] == null) {
+                        costBasis[0] = prepareCostBasis(cargos, applied_exchange_rate, findRateCard(quotation));
+                    }
+                    return calculateTotalCost(costBasis[0], freightCost);
+                }))
+            .toList();
+    }
+
+    // 운임과 무관한 비용 계산
+    public CostBasis prepareCostBasis(List<Cargo> cargos, int applied_exchange_rate, RateCard rateCard) {
+        Cargo firstCargo = cargos.get(0);
 
         // 자세한 화물 정보
-        List<CargoBaseInfo> cargoBaseInfos = processCargos(cargos, applied_exchange_rate);
+        List<CargoBaseInfo> cargoBaseInfos = quotationCostMetrics.record(QuotationCostStage.CARGO_PROCESSING,
+            () -> processCargos(cargos, applied_exchange_rate));
 
         // 모든 화물의 CBM
         BigDecimal cargosTotalCBM = cargoBaseInfos.stream()
@@ -286,7 +326,8 @@ public class QuotationCalculationService {
             .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         // 국내 발생 경비
-        QuotationDomesticExpense domesticExpense = calculateDomesticExpense(cargosTotalCBM, applied_exchange_rate);
+        QuotationDomesticExpense domesticExpense = quotationCostMetrics.record(QuotationCostStage.DOMESTIC_EXPENSE,
+            () -> calculateDomesticExpense(cargosTotalCBM, applied_exchange_rate, rateCard));
 
 
         // 모든 화물의 외화 환산 총액
@@ -305,46 +346,137 @@ public class QuotationCalculationService {
             .add(cargosTotalAmountInForeignCurrency)
             .divide(BigDecimal.valueOf(cargosTotalExportQuantity), 2, RoundingMode.HALF_UP);
 
+        return CostBasis.builder()
+            .totalCBM(cargosTotalCBM)
+            .domesticExpense(domesticExpense)
+            .incotermsFOB(incotermsFOB)
+            .totalExportQuantity(cargosTotalExportQuantity)
+            .incoterms(firstCargo.getIncoterms())
+            .exchangeRate(applied_exchange_rate)
+            .rateCard(rateCard)
+            .build();
+    }
+
+    // 운임 관련 비용만 계산
+    public BigDecimal calculateTotalCost(CostBasis costBasis, Integer freightCost) {
+        QuotationDomesticExpense domesticExpense = costBasis.getDomesticExpense();
 
         // 국외 발생 경비
-        QuotationOverseaExpense overseaExpense
-            = calculateOverseaExpense(cargosTotalCBM, domesticExpense.getAMForAFS(), cargosTotalExportQuantity, incotermsFOB, firstCargo.getIncoterms(),
-            freightCost);
+        QuotationOverseaExpense overseaExpense = quotationCostMetrics.record(QuotationCostStage.OVERSEA_EXPENSE,
+            () -> calculateOverseaExpense(costBasis.getTotalCBM(), domesticExpense.getAMForAFS(), costBasis.getTotalExportQuantity(),
+            costBasis.getIncotermsFOB(), costBasis.getIncoterms(), freightCost, costBasis.getRateCard()));
 
         BigDecimal domesticExpenseTotalCost = domesticExpense.getTotalDomesticExpenses();
         BigDecimal overseaExpenseTotalCost = overseaExpense.getTotalOverseaExpenses();
 
         return domesticExpenseTotalCost.add(overseaExpenseTotalCost).multiply(
-            BigDecimal.valueOf(applied_exchange_rate));
+            BigDecimal.valueOf(costBasis.getExchangeRate()));
+    }
+
+    // 예측 견적서(PREDICTION_SHEET)에 저장되는 총 비용
+    public BigDecimal toPredictionSheetCost(BigDecimal totalCost, int applied_exchange_rate) {
+        return totalCost.multiply(BigDecimal.valueOf(applied_exchange_rate));
+    }
+
+    // 견적서의 항로와 포워더에 해당하는 요율 (항로 캐시와 요율표 모두 메모리 조회)
+    public RateCard findRateCard(Quotation quotation) {
+        return findRateCard(findRoute(quotation), quotation.getForwarderId());
+    }
+
+    public RateCard findRateCard(ScheduleRoute route, String forwarderId) {
+        return tariffService.findRateCard(route.exportPortId(), route.importPortId(),
+            forwarderId != null ? Long.valueOf(forwarderId) : null);
+    }
+
+    private ScheduleRoute findRoute(Quotation quotation) {
+        ScheduleRoute route = scheduleRouteCache.findRoute(Long.valueOf(quotation.getFreight().getScheduleId()));
+        if (route == null) {
+            throw new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND);
+        }
+        return route;
+    }
+
+    private QuotationCostCache.Key costCacheKey(Quotation quotation, List<Long> cargoRevisions, Integer freightCost,
+        int applied_exchange_rate) {
+        return new QuotationCostCache.Key(
+            quotation.getCost().getCargoIds(),
+            cargoRevisions,
+            freightCost,
+            applied_exchange_rate,
+            tariffService.getCurrentTable().getVersion(),
+            quotation.getFreight() != null ? quotation.getFreight().getScheduleId() : null,
+            quotation.getForwarderId());
+    }
+
+    // 화물 ID 순서대로 수정 횟수 조회 (revision 필드만 조회)
+    private List<Long> findCargoRevisions(List<String> cargoIds) {
+        Map<String, Long> revisionMap = new HashMap<>();
+        quotationCostMetrics.record(QuotationCostStage.CARGO_LOAD, () -> cargoRepository.findRevisionsByIdIn(cargoIds))
+            .forEach(cargo -> revisionMap.put(cargo.getId(), cargo.getRevision()));
+
+        return cargoIds.stream()
+            .map(cargoId -> {
+                if (!revisionMap.containsKey(cargoId)) {
+                    throw new CargoHandler(ErrorStatus.CARGO_NOT_FOUND);
+                }
+                return revisionMap.get(cargoId);
+            })
+            .toList();
+    }
+
+    // 화물 ID 순서를 유지하며 한 번의 $in 쿼리로 조회 (환율 기준이 낡은 파생 지표는 갱신해 저장)
+    private List<Cargo> findCargos(List<String> cargoIds, int applied_exchange_rate) {
+        Map<String, Cargo> cargoMap = quotationCostMetrics.record(QuotationCostStage.CARGO_LOAD,
+                () -> cargoRepository.findAllById(cargoIds)).stream()
+            .collect(Collectors.toMap(Cargo::getId, Function.identity()));
+
+        List<Cargo> cargos = cargoIds.stream()
+            .map(cargoId -> {
+                Cargo cargo = cargoMap.get(cargoId);
+                if (cargo == null) {
+                    throw new CargoHandler(ErrorStatus.CARGO_NOT_FOUND);
+                }
+                return cargo;
+            })
+            .toList();
+        cargoDerivedMetricsWriter.refreshStale(cargoMap.values(), applied_exchange_rate);
+        return cargos;
     }
+
     @Transactional
-    public void updateQuotationByAlgorithm(Quotation quotation) {
+    public Quotation updateQuotationByAlgorithm(Quotation quotation) {
         List<String> cargoIds = quotation.getCost().getCargoIds();
 
-        Schedule schedule = scheduleRepository.findById(Long.valueOf(quotation.getFreight().getScheduleId()))
-            .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND));
-        // todo
-        // 임시 운임 비용 -> 운임 비용 예측 AI API를 사용해 반환 예정
-        Integer freightCost = 10;
+        ScheduleRoute route = findRoute(quotation);
+        Integer freightCost = DEFAULT_FREIGHT_COST;
+
+        // 환율 (한 견적서 계산에는 동일한 스냅샷을 사용)
+        int applied_exchange_rate = getUsdRate();
 
-        BigDecimal totalCost = calculateTotalCost(quotation, freightCost);
+        List<Cargo> cargos = findCargos(cargoIds, applied_exchange_rate);
+        RateCard rateCard = findRateCard(route, quotation.getForwarderId());
 
-        int applied_exchange_rate = Integer.parseInt(getExchange());
+        BigDecimal totalCost = calculateTotalCost(cargos, freightCost, applied_exchange_rate, rateCard);
 
         Quotation createdQuotation = Quotation.builder()
             .quotationStatus(QuotationStatus.PREDICTION_SHEET)
             .consignorId(quotation.getConsignorId())
             .originalQuotationId(quotation.getId())
             .freight(Quotation.Freight.builder()
-                .scheduleId(String.valueOf(schedule.getId()))
+                .scheduleId(String.valueOf(route.scheduleId()))
                 .build())
             .cost(Quotation.Cost.builder()
                 .cargoIds(cargoIds)
-                .totalCost(totalCost.multiply(BigDecimal.valueOf(applied_exchange_rate)))
+                .totalCost(toPredictionSheetCost(totalCost, applied_exchange_rate))
                 .build())
             .build();
 
-        quotationRepository.save(createdQuotation);
+        createdQuotation.prePersist();
+        return quotationCostMetrics.record(QuotationCostStage.SAVE, () -> quotationRepository.save(createdQuotation));
+    }
 
+    // 환율 조회 (스냅샷이 오래된 경우 갱신 요청 포함)
+    private int getUsdRate() {
+        return quotationCostMetrics.record(QuotationCostStage.EXCHANGE_FETCH, exchangeRateProvider::getUsdRate);
     }
 }
@@ -2,11 +2,16 @@ package com.example.linkcargo.domain.quotation;
 
 import com.example.linkcargo.domain.quotation.dto.request.QuotationConsignorRequest;
 import com.example.linkcargo.domain.quotation.dto.request.QuotationForwarderRequest;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationHistoryResponse;
 import com.example.linkcargo.domain.quotation.dto.response.QuotationInfoResponse;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationPricingJobResponse;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationRepricingRunResponse;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationSummaryResponse;
 import com.example.linkcargo.domain.schedule.dto.request.ScheduleCreateUpdateRequest;
 import com.example.linkcargo.global.resolver.Login;
 import com.example.linkcargo.global.resolver.LoginInfo;
 import com.example.linkcargo.global.response.ApiResponse;
+import com.example.linkcargo.global.response.code.resultCode.SuccessStatus;
 import com.example.linkcargo.global.security.CustomUserDetail;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,28 +19,37 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/quotations")
 @Tag(name = "4. Quotation", description = "견적서 관련 API")
 public class QuotationController {
 
     private final QuotationService quotationService;
-    private final QuotationCalculationService quotationCalculationService;
+    private final QuotationRepricingRunService quotationRepricingRunService;
+    private final QuotationPricingJobService quotationPricingJobService;
 
-    @Operation(summary = "화주 견적서 요청 ", description = "화주 측에서 견적서 초안을 작성합니다. QuotationConsignorRequest 사용")
+    @Operation(summary = "화주 견적서 요청 ", description = "화주 측에서 견적서 초안을 작성합니다. 예측 견적서는 비동기로 생성되며 완료 시 /sub/users/{consignorId}/quotations 로 알림이 전송됩니다."
+        + " QuotationConsignorRequest 사용")
     @PostMapping("")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
@@ -47,7 +61,7 @@ public class QuotationController {
         @AuthenticationPrincipal CustomUserDetail userDetail,
         @RequestBody QuotationConsignorRequest request) {
         Quotation quotation = quotationService.createQuotationByConsignor(request, userDetail.getId());
-        quotationCalculationService.updateQuotationByAlgorithm(quotation);
+        quotationPricingJobService.enqueue(quotation);
         return ApiResponse.onSuccess(quotation.getId());
     }
 
@@ -66,7 +80,7 @@ public class QuotationController {
 
         List<String> quotationIds = new ArrayList<>();
         for (Quotation quotation : quotations) {
-            quotationCalculationService.updateQuotationByAlgorithm(quotation);
+            quotationPricingJobService.enqueue(quotation);
             quotationIds.add(quotation.getId());
         }
         return ApiResponse.onSuccess(quotationIds);
@@ -117,4 +131,88 @@ public class QuotationController {
         return ApiResponse.onSuccess(quotationInfoResponses);
 
     }
+
+    @Operation(summary = "화주의 견적서 목록 조회", description = "화주의 견적서를 목록 화면에 필요한 필드(아이디, 상태, 총 비용, 스케줄, 포워더)만 조회합니다. QuotationSummaryResponse 사용")
+    @GetMapping("/me/summary")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+    })
+    public ApiResponse<List<QuotationSummaryResponse>> findQuotationSummariesByConsignorId(
+        @AuthenticationPrincipal CustomUserDetail userDetail) {
+
+        return ApiResponse.onSuccess(quotationService.findQuotationSummariesByConsignorId(userDetail.getId()));
+    }
+
+    @Operation(summary = "화주의 견적서 이력 조회 - 커서 페이징", description = "화주의 견적서를 최신순으로 조회합니다. 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다."
+        + " QuotationHistoryResponse 사용")
+    @GetMapping("/me/history")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "SCHEDULE403",description = "선박 스케줄이 존재 하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "QUOTATION405", description = "유효하지 않은 견적서 이력 커서입니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<QuotationHistoryResponse> findQuotationHistory(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "견적서 상태") @RequestParam(required = false) QuotationStatus status,
+        @Parameter(description = "선박 스케줄 아이디") @RequestParam(required = false) Long scheduleId) {
+
+        return ApiResponse.onSuccess(quotationService.findQuotationHistory(userDetail.getId(), cursor, size, status, scheduleId));
+    }
+
+    @Operation(summary = "예측 견적서 일괄 재계산", description = "운임 지수 또는 환율 변경 시 모든 예측 견적서(PREDICTION_SHEET)의 비용을 재계산합니다."
+        + " 운영자(OPERATOR)만 실행할 수 있습니다. 재계산은 백그라운드에서 수행되며 202 와 함께 실행 아이디(runId)를 반환합니다. 이미 진행 중인 재계산이 있으면 그 실행을 반환합니다."
+        + " QuotationRepricingRunResponse 사용")
+    @PostMapping("/reprice")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON202", description = "ACCEPTED, 재계산 시작"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "QUOTATION407", description = "운임 지수는 1 이상이어야 합니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH411", description = "로그인이 필요합니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "USER406", description = "운영자 역할이 아닙니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<QuotationRepricingRunResponse> repricePredictionSheets(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "적용할 운임 지수")
+        @RequestParam(required = false)
+        @NotNull(message = "QUOTATION_INVALID_FREIGHT_COST")
+        @Positive(message = "QUOTATION_INVALID_FREIGHT_COST") Integer freightCost) {
+
+        return ApiResponse.of(SuccessStatus._ACCEPTED,
+            quotationRepricingRunService.start(freightCost, userIdOf(userDetail)));
+    }
+
+    @Operation(summary = "예측 견적서 일괄 재계산 상태 조회", description = "일괄 재계산 실행의 상태와 진행 건수를 조회합니다. QuotationRepricingRunResponse 사용")
+    @GetMapping("/reprice/{runId}")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "QUOTATION406", description = "견적서 일괄 재계산 기록이 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "AUTH411", description = "로그인이 필요합니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "USER406", description = "운영자 역할이 아닙니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<QuotationRepricingRunResponse> findRepricingRun(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "일괄 재계산 실행 아이디") @PathVariable String runId) {
+
+        return ApiResponse.onSuccess(quotationRepricingRunService.findRun(runId, userIdOf(userDetail)));
+    }
+
+    // 비로그인 요청은 null (서비스에서 LOGIN_REQUIRED 로 처리)
+    private Long userIdOf(CustomUserDetail userDetail) {
+        return userDetail != null ? userDetail.getId() : null;
+    }
+
+    @Operation(summary = "예측 견적서 생성 상태 조회", description = "화주 견적서에 대한 예측 견적서 생성 작업의 상태를 조회합니다. QuotationPricingJobResponse 사용")
+    @GetMapping("/{quotationId}/pricing-job")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "QUOTATION404", description = "견적서 계산 작업이 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<QuotationPricingJobResponse> findPricingJob(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Parameter(description = "화주가 요청한 견적서의 아이디") @PathVariable String quotationId) {
+
+        return ApiResponse.onSuccess(quotationPricingJobService.findJob(quotationId));
+    }
 }
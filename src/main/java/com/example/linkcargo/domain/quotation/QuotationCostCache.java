@@ -0,0 +1,62 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 총 비용 계산 결과 캐시
+ * <p>
+ * 화물 ID 와 화물 수정 횟수(revision), 운임 지수, 적용 환율, 요율표 버전, 스케줄, 포워더가 같으면 계산 결과도 같으므로 크기 제한이 있는
+ * 캐시에 보관한다. 화물이 수정되면 revision 이 바뀌어 자연히 다른 키가 되지만, 수정·삭제 시 해당 화물이 포함된 항목은 바로 제거한다.
+ * 적중/실패 지표는 cache.gets{cache=quotation.cost, result=hit|miss} 로 기록된다.
+ */
+@Component
+public class QuotationCostCache {
+
+    private final Cache<Key, BigDecimal> cache;
+
+    public QuotationCostCache(
+        MeterRegistry meterRegistry,
+        @Value("${quotation.cost-cache.maximum-size:10000}") long maximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "quotation.cost");
+    }
+
+    public BigDecimal get(Key key, Supplier<BigDecimal> calculator) {
+        return cache.get(key, ignored -> calculator.get());
+    }
+
+    // 화물 수정, 삭제 시
+    public void invalidateCargo(String cargoId) {
+        cache.asMap().keySet().removeIf(key -> key.cargoIds().contains(cargoId));
+    }
+
+    // 스케줄(항로) 수정, 삭제 시
+    public void invalidateSchedule(String scheduleId) {
+        cache.asMap().keySet().removeIf(key -> Objects.equals(key.scheduleId(), scheduleId));
+    }
+
+    public record Key(
+        List<String> cargoIds,
+        List<Long> cargoRevisions,
+        Integer freightCost,
+        int exchangeRate,
+        Long tariffVersion,
+        String scheduleId,
+        String forwarderId
+    ) {
+
+    }
+}
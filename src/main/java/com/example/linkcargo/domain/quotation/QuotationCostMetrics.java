@@ -0,0 +1,91 @@
+package com.example.linkcargo.domain.quotation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 견적 비용 계산 단계별 시간 측정
+ * <p>
+ * 단계별로 quotation.cost.stage{stage} 타이머(백분위 히스토그램 포함)와 quotation.cost.stage.errors{stage} 카운터를 기록한다.
+ * 디버그 헤더가 켜져 있고 요청에 X-Debug-Timing 헤더가 있으면, 요청 스레드에서 측정한 단계별 누적 시간을 Server-Timing 응답 헤더로
+ * 내려준다.
+ */
+@Component
+public class QuotationCostMetrics {
+
+    public static final String DEBUG_REQUEST_HEADER = "X-Debug-Timing";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<Map<QuotationCostStage, Long>> BREAKDOWN = new ThreadLocal<>();
+
+    private final Map<QuotationCostStage, Timer> timers = new EnumMap<>(QuotationCostStage.class);
+    private final Map<QuotationCostStage, Counter> errorCounters = new EnumMap<>(QuotationCostStage.class);
+    private final boolean debugHeaderEnabled;
+
+    public QuotationCostMetrics(
+        MeterRegistry meterRegistry,
+        @Value("${quotation.cost-metrics.debug-header-enabled:false}") boolean debugHeaderEnabled
+    ) {
+        this.debugHeaderEnabled = debugHeaderEnabled;
+        for (QuotationCostStage stage : QuotationCostStage.values()) {
+            timers.put(stage, Timer.builder("quotation.cost.stage")
+                .tag("stage", stage.getTag())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+            errorCounters.put(stage, Counter.builder("quotation.cost.stage.errors")
+                .tag("stage", stage.getTag())
+                .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(QuotationCostStage stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } catch (RuntimeException e) {
+            errorCounters.get(stage).increment();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timers.get(stage).record(elapsed, TimeUnit.NANOSECONDS);
+            Map<QuotationCostStage, Long> breakdown = BREAKDOWN.get();
+            if (breakdown != null) {
+                breakdown.merge(stage, elapsed, Long::sum);
+            }
+        }
+    }
+
+    public boolean isDebugHeaderEnabled() {
+        return debugHeaderEnabled;
+    }
+
+    // 요청 단위 측정 시작 (요청 스레드)
+    public void startBreakdown() {
+        BREAKDOWN.set(new EnumMap<>(QuotationCostStage.class));
+    }
+
+    // 측정된 단계가 있으면 Server-Timing 헤더 값 반환 (예: cargo_load;dur=3.120, oversea_expense;dur=0.042)
+    // 소수점 표기가 서버 기본 로케일(예: 3,120)을 따르지 않도록 Locale.ROOT 로 쓴다
+    public String breakdownHeaderValue() {
+        Map<QuotationCostStage, Long> breakdown = BREAKDOWN.get();
+        if (breakdown == null || breakdown.isEmpty()) {
+            return null;
+        }
+        return breakdown.entrySet().stream()
+            .map(entry -> String.format(Locale.ROOT, "%s;dur=%.3f", entry.getKey().getTag(), entry.getValue() / 1_000_000.0))
+            .collect(Collectors.joining(", "));
+    }
+
+    public void clearBreakdown() {
+        BREAKDOWN.remove();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.linkcargo.domain.quotation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QuotationCostStage {
+    QUOTATION_LOAD("quotation_load"), // 견적서 조회
+    CARGO_LOAD("cargo_load"), // 화물 조회
+    EXCHANGE_FETCH("exchange_fetch"), // 환율 조회
+    CARGO_PROCESSING("cargo_processing"), // 화물 정보 가공
+    DOMESTIC_EXPENSE("domestic_expense"), // 국내 발생 경비 계산
+    OVERSEA_EXPENSE("oversea_expense"), // 국외 발생 경비 계산
+    SAVE("save"); // 예측 견적서 저장
+
+    private final String tag;
+}
@@ -0,0 +1,36 @@
+package com.example.linkcargo.domain.quotation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 전에 단계별 측정 결과를 Server-Timing 헤더로 추가한다. (본문을 쓴 뒤에는 헤더를 추가할 수 없음)
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class QuotationCostTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final QuotationCostMetrics quotationCostMetrics;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return quotationCostMetrics.isDebugHeaderEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+        ServerHttpResponse response) {
+        String headerValue = quotationCostMetrics.breakdownHeaderValue();
+        if (headerValue != null) {
+            response.getHeaders().add(QuotationCostMetrics.SERVER_TIMING_HEADER, headerValue);
+        }
+        return body;
+    }
+}
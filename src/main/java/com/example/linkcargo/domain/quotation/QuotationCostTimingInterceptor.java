@@ -0,0 +1,32 @@
+package com.example.linkcargo.domain.quotation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * X-Debug-Timing 헤더가 있는 요청에 대해 단계별 측정을 시작하고, 요청이 끝나면 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotationCostTimingInterceptor implements HandlerInterceptor {
+
+    private final QuotationCostMetrics quotationCostMetrics;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (quotationCostMetrics.isDebugHeaderEnabled()
+            && request.getHeader(QuotationCostMetrics.DEBUG_REQUEST_HEADER) != null) {
+            quotationCostMetrics.startBreakdown();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+        Exception ex) {
+        quotationCostMetrics.clearBreakdown();
+    }
+}
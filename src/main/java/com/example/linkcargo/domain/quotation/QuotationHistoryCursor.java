@@ -0,0 +1,41 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 견적서 이력 커서. 마지막으로 받은 견적서의 (createdAt, id) 를 담는다. createdAt 이 없는 견적서는 가장 오래된 것으로 본다.
+ */
+public record QuotationHistoryCursor(
+    LocalDateTime createdAt,
+    String id
+) {
+
+    public static QuotationHistoryCursor of(Quotation quotation) {
+        return new QuotationHistoryCursor(quotation.getCreatedAt(), quotation.getId());
+    }
+
+    public String encode() {
+        String value = (createdAt != null ? createdAt.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static QuotationHistoryCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            String createdAt = value.substring(0, separator);
+            String id = value.substring(separator + 1);
+            if (id.isEmpty()) {
+                throw new QuotationHandler(ErrorStatus.QUOTATION_INVALID_CURSOR);
+            }
+            return new QuotationHistoryCursor(createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new QuotationHandler(ErrorStatus.QUOTATION_INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.global.entity.MongoBaseEntity;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 예측 견적서(PREDICTION_SHEET) 생성 작업. 견적서 하나당 작업 하나만 존재한다.
+ */
+@Document(collection = "quotation_pricing_jobs")
+@CompoundIndex(name = "status_next_attempt_at", def = "{'status': 1, 'nextAttemptAt': 1}")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuotationPricingJob extends MongoBaseEntity {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private String quotationId; // 화주가 요청한 견적서
+
+    private String consignorId;
+
+    private QuotationPricingJobStatus status;
+
+    private Integer attempts; // 시도 횟수
+
+    private LocalDateTime nextAttemptAt; // 다음 시도 가능 시각
+
+    private LocalDateTime startedAt; // 마지막 시도 시작 시각
+
+    private String predictionQuotationId; // 생성된 예측 견적서
+
+    private String lastError;
+}
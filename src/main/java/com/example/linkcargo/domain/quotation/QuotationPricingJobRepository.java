@@ -0,0 +1,9 @@
+package com.example.linkcargo.domain.quotation;
+
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface QuotationPricingJobRepository extends MongoRepository<QuotationPricingJob, String> {
+
+    Optional<QuotationPricingJob> findByQuotationId(String quotationId);
+}
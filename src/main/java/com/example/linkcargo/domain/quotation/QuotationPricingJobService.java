@@ -0,0 +1,73 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.domain.quotation.dto.response.QuotationPricingJobResponse;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예측 견적서 생성 작업 등록 및 조회
+ * <p>
+ * 같은 견적서에 대한 요청은 하나의 작업으로 합쳐지며(quotationId unique), 실패로 끝난 작업만 다시 대기 상태로 돌린다. 실제 계산은
+ * {@link QuotationPricingJobWorker} 가 요청 스레드 밖에서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuotationPricingJobService {
+
+    private final QuotationPricingJobRepository quotationPricingJobRepository;
+    private final MongoTemplate mongoTemplate;
+    private final QuotationPricingJobWorker quotationPricingJobWorker;
+
+    public QuotationPricingJob enqueue(Quotation quotation) {
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            // 작업이 없을 때만 생성
+            mongoTemplate.upsert(
+                Query.query(Criteria.where("quotationId").is(quotation.getId())),
+                new Update()
+                    .setOnInsert("consignorId", quotation.getConsignorId())
+                    .setOnInsert("status", QuotationPricingJobStatus.PENDING)
+                    .setOnInsert("attempts", 0)
+                    .setOnInsert("nextAttemptAt", now)
+                    .setOnInsert("created_at", now)
+                    .setOnInsert("updated_at", now),
+                QuotationPricingJob.class);
+        } catch (DuplicateKeyException ignored) {
+            // 동시에 같은 견적서가 등록된 경우, 먼저 생성된 작업을 사용
+        }
+
+        // 실패한 작업은 다시 요청되면 처음부터 재시도
+        mongoTemplate.updateFirst(
+            Query.query(Criteria.where("quotationId").is(quotation.getId())
+                .and("status").is(QuotationPricingJobStatus.FAILED)),
+            new Update()
+                .set("status", QuotationPricingJobStatus.PENDING)
+                .set("attempts", 0)
+                .set("nextAttemptAt", now)
+                .unset("lastError")
+                .set("updated_at", now),
+            QuotationPricingJob.class);
+
+        quotationPricingJobWorker.wakeUp();
+
+        return quotationPricingJobRepository.findByQuotationId(quotation.getId())
+            .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_PRICING_JOB_NOT_FOUND));
+    }
+
+    public QuotationPricingJobResponse findJob(String quotationId) {
+        return quotationPricingJobRepository.findByQuotationId(quotationId)
+            .map(QuotationPricingJobResponse::fromEntity)
+            .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_PRICING_JOB_NOT_FOUND));
+    }
+}
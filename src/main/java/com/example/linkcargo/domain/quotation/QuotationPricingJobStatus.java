@@ -0,0 +1,14 @@
+package com.example.linkcargo.domain.quotation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QuotationPricingJobStatus {
+    PENDING, // 대기 (재시도 대기 포함)
+    RUNNING, // 계산 중
+    COMPLETED, // 예측 견적서 생성 완료
+    FAILED // 재시도 횟수 초과 또는 재시도할 수 없는 오류
+
+}
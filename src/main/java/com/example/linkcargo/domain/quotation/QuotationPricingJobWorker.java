@@ -0,0 +1,270 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.domain.quotation.dto.response.QuotationPricingJobResponse;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.GeneralException;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예측 견적서 생성 작업 처리
+ * <p>
+ * 대기 중인 작업을 findAndModify 로 하나씩 점유해 제한된 워커 풀에서 처리한다. 실패하면 지수 백오프로 재시도하고, 완료 또는 최종 실패 시
+ * 화주에게 STOMP(/sub/users/{consignorId}/quotations)로 알린다. 처리 중 서버가 종료된 작업은 점유 시간이 지나면 다시 대기 상태가 된다.
+ */
+@Slf4j
+@Component
+public class QuotationPricingJobWorker {
+
+    private static final String DESTINATION_FORMAT = "/sub/users/%s/quotations";
+
+    private final MongoTemplate mongoTemplate;
+    private final QuotationRepository quotationRepository;
+    private final QuotationCalculationService quotationCalculationService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration lease;
+
+    private final ExecutorService workerExecutor;
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quotation-pricing-dispatch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Semaphore availableWorkers;
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+
+    public QuotationPricingJobWorker(
+        MongoTemplate mongoTemplate,
+        QuotationRepository quotationRepository,
+        QuotationCalculationService quotationCalculationService,
+        SimpMessagingTemplate messagingTemplate,
+        @Value("${quotation.pricing-job.worker-count:4}") int workerCount,
+        @Value("${quotation.pricing-job.max-attempts:3}") int maxAttempts,
+        @Value("${quotation.pricing-job.retry-backoff-ms:2000}") long retryBackoffMs,
+        @Value("${quotation.pricing-job.lease-ms:300000}") long leaseMs
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.quotationRepository = quotationRepository;
+        this.quotationCalculationService = quotationCalculationService;
+        this.messagingTemplate = messagingTemplate;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.workerExecutor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "quotation-pricing-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.availableWorkers = new Semaphore(workerCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+        workerExecutor.shutdown();
+    }
+
+    // 새 작업이 등록되면 다음 주기를 기다리지 않고 바로 처리
+    public void wakeUp() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            dispatchExecutor.execute(() -> {
+                dispatchScheduled.set(false);
+                dispatch();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${quotation.pricing-job.poll-interval-ms:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    // 점유 시간이 지난 RUNNING 작업 복구 (처리 중 서버 종료 등)
+    @Scheduled(fixedDelayString = "${quotation.pricing-job.recover-interval-ms:60000}")
+    public void recoverExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        long recovered = mongoTemplate.updateMulti(
+            Query.query(Criteria.where("status").is(QuotationPricingJobStatus.RUNNING)
+                .and("startedAt").lt(now.minus(lease))),
+            new Update()
+                .set("status", QuotationPricingJobStatus.PENDING)
+                .set("nextAttemptAt", now)
+                .set("updated_at", now),
+            QuotationPricingJob.class).getModifiedCount();
+        if (recovered > 0) {
+            log.warn("점유 시간이 지난 견적서 계산 작업 {}건을 다시 대기 상태로 돌립니다.", recovered);
+        }
+    }
+
+    private void dispatch() {
+        while (availableWorkers.tryAcquire()) {
+            Optional<QuotationPricingJob> claimed;
+            try {
+                claimed = claimNext();
+            } catch (RuntimeException e) {
+                availableWorkers.release();
+                log.warn("견적서 계산 작업 조회에 실패했습니다. {}", e.getMessage());
+                return;
+            }
+            if (claimed.isEmpty()) {
+                availableWorkers.release();
+                return;
+            }
+
+            QuotationPricingJob job = claimed.get();
+            workerExecutor.execute(() -> {
+                try {
+                    process(job);
+                } finally {
+                    availableWorkers.release();
+                    wakeUp();
+                }
+            });
+        }
+    }
+
+    private Optional<QuotationPricingJob> claimNext() {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("status").is(QuotationPricingJobStatus.PENDING)
+                .and("nextAttemptAt").lte(now))
+            .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        Update update = new Update()
+            .set("status", QuotationPricingJobStatus.RUNNING)
+            .set("startedAt", now)
+            .inc("attempts", 1)
+            .set("updated_at", now);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+            FindAndModifyOptions.options().returnNew(true), QuotationPricingJob.class));
+    }
+
+    private void process(QuotationPricingJob job) {
+        try {
+            Quotation predictionSheet = createPredictionSheet(job.getQuotationId());
+            complete(job, predictionSheet.getId());
+        } catch (GeneralException e) {
+            // 견적서, 화물, 스케줄이 없는 경우 등은 재시도해도 결과가 같다
+            fail(job, e.getErrorReason().getMessage(), false);
+        } catch (RuntimeException e) {
+            log.warn("견적서 계산 작업이 실패했습니다. quotationId={}, attempts={}", job.getQuotationId(), job.getAttempts(), e);
+            fail(job, e.getMessage(), job.getAttempts() < maxAttempts);
+        }
+    }
+
+    private Quotation createPredictionSheet(String quotationId) {
+        // 이전 시도에서 저장까지 끝난 경우 다시 만들지 않는다
+        Optional<Quotation> existing = quotationRepository.findQuotationByOriginalQuotationIdAndQuotationStatus(
+            quotationId, QuotationStatus.PREDICTION_SHEET);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Quotation quotation = quotationRepository.findById(quotationId)
+            .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_NOT_FOUND));
+        try {
+            return quotationCalculationService.updateQuotationByAlgorithm(quotation);
+        } catch (DuplicateKeyException e) {
+            // 다른 워커가 먼저 저장한 경우 (original_prediction_sheet unique index)
+            return quotationRepository.findQuotationByOriginalQuotationIdAndQuotationStatus(
+                    quotationId, QuotationStatus.PREDICTION_SHEET)
+                .orElseThrow(() -> e);
+        }
+    }
+
+    private void complete(QuotationPricingJob job, String predictionQuotationId) {
+        QuotationPricingJob updated = mongoTemplate.findAndModify(
+            claimedQuery(job),
+            new Update()
+                .set("status", QuotationPricingJobStatus.COMPLETED)
+                .set("predictionQuotationId", predictionQuotationId)
+                .unset("lastError")
+                .set("updated_at", LocalDateTime.now()),
+            FindAndModifyOptions.options().returnNew(true),
+            QuotationPricingJob.class);
+        if (updated == null) {
+            logLostClaim(job);
+            return;
+        }
+        notifyConsignor(updated);
+    }
+
+    private void fail(QuotationPricingJob job, String error, boolean retry) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+            .set("lastError", error)
+            .set("updated_at", now);
+        if (retry) {
+            // 2000ms, 4000ms, 8000ms ...
+            Duration backoff = retryBackoff.multipliedBy(1L << Math.min(job.getAttempts() - 1, 10));
+            update.set("status", QuotationPricingJobStatus.PENDING)
+                .set("nextAttemptAt", now.plus(backoff));
+        } else {
+            update.set("status", QuotationPricingJobStatus.FAILED);
+        }
+
+        QuotationPricingJob updated = mongoTemplate.findAndModify(
+            claimedQuery(job),
+            update,
+            FindAndModifyOptions.options().returnNew(true),
+            QuotationPricingJob.class);
+        if (updated == null) {
+            logLostClaim(job);
+            return;
+        }
+        if (!retry) {
+            notifyConsignor(updated);
+        }
+    }
+
+    /**
+     * 이 워커가 점유한 시도 그대로인 경우만 갱신한다. 점유 시간이 지나 복구된 뒤 다른 워커가 다시 점유했다면 attempts 가 달라지므로,
+     * 늦게 끝난 이전 시도가 새 시도의 상태를 덮어쓰지 않는다.
+     */
+    private Query claimedQuery(QuotationPricingJob job) {
+        return Query.query(Criteria.where("id").is(job.getId())
+            .and("status").is(QuotationPricingJobStatus.RUNNING)
+            .and("attempts").is(job.getAttempts()));
+    }
+
+    private void logLostClaim(QuotationPricingJob job) {
+        log.warn("점유가 만료되어 다른 시도로 넘어간 견적서 계산 작업의 결과를 버립니다. quotationId={}, attempts={}",
+            job.getQuotationId(), job.getAttempts());
+    }
+
+    private void notifyConsignor(QuotationPricingJob job) {
+        if (job == null || job.getConsignorId() == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(String.format(DESTINATION_FORMAT, job.getConsignorId()),
+                QuotationPricingJobResponse.fromEntity(job));
+        } catch (RuntimeException e) {
+            // 알림 실패는 작업 결과에 영향을 주지 않는다 (상태 조회 API 로 확인 가능)
+            log.warn("견적서 계산 완료 알림 전송에 실패했습니다. quotationId={}, {}", job.getQuotationId(), e.getMessage());
+        }
+    }
+}
@@ -1,18 +1,37 @@
 package com.example.linkcargo.domain.quotation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
 public interface QuotationRepository extends MongoRepository<Quotation, String> {
 
+    // 상세 조회(QuotationInfoResponse)에 필요한 필드
+    String DETAIL_FIELDS = "{ 'originalQuotationId': 1, 'quotationStatus': 1, 'freight': 1, "
+        + "'cost.freightCost': 1, 'cost.chargeExport': 1, 'cost.totalCost': 1 }";
+
     boolean existsByConsignorIdAndFreight_ScheduleId(String consignorId, String scheduleId);
 
-    List<Quotation> findQuotationsByConsignorId(String s);
+    boolean existsByConsignorIdAndFreight_ScheduleIdIn(String consignorId, Collection<String> scheduleIds);
+
+    // 목록 조회용 (id, 상태, 총 비용, 스케줄, 포워더)
+    @Query(value = "{ 'consignorId': ?0 }",
+        fields = "{ 'quotationStatus': 1, 'cost.totalCost': 1, 'freight.scheduleId': 1, 'forwarderId': 1, 'originalQuotationId': 1 }")
+    List<Quotation> findSummariesByConsignorId(String consignorId);
+
+    @Query(value = "{ 'consignorId': ?0 }", fields = DETAIL_FIELDS)
+    List<Quotation> findDetailsByConsignorId(String consignorId);
 
     Optional<Quotation> findQuotationByQuotationStatusAndFreight_scheduleIdAndConsignorId(QuotationStatus quotationStatus, String consignorId, String scheduleId);
 
-    List<Quotation> findQuotationsByIdOrOriginalQuotationId(String quotationId, String originalQuotationId);
+    @Query(value = "{ $or: [ { '_id': ?0 }, { 'originalQuotationId': ?0 } ] }", fields = DETAIL_FIELDS)
+    List<Quotation> findDetailsByIdOrOriginalQuotationId(String quotationId);
+
+    // 포워더 견적서가 원본에서 가져오는 필드 (QuotationRevisionAssembler)
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'freight.scheduleId': 1, 'cost.cargoIds': 1 }")
+    List<Quotation> findRevisionBasesByIdIn(Collection<String> ids);
 
     List<Quotation> findQuotationsByOriginalQuotationIdAndQuotationStatus(String originalQuotationId, QuotationStatus quotationStatus);
 
@@ -0,0 +1,47 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.global.entity.MongoBaseEntity;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 예측 견적서 일괄 재계산 실행 기록. 동시에 RUNNING 상태인 실행은 하나만 존재한다.
+ */
+@Document(collection = "quotation_repricing_runs")
+@CompoundIndex(name = "status_running", def = "{'status': 1}", unique = true,
+    partialFilter = "{'status': 'RUNNING'}")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuotationRepricingRun extends MongoBaseEntity {
+
+    @Id
+    private String id;
+
+    private QuotationRepricingRunStatus status;
+
+    private Integer freightCost; // 적용 운임 지수
+
+    private Integer exchangeRate; // 적용 환율
+
+    private Integer repricedCount;
+
+    private Integer skippedCount;
+
+    private String requestedBy; // 요청한 사용자
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String lastError;
+}
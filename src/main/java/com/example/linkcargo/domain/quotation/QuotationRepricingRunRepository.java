@@ -0,0 +1,9 @@
+package com.example.linkcargo.domain.quotation;
+
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface QuotationRepricingRunRepository extends MongoRepository<QuotationRepricingRun, String> {
+
+    Optional<QuotationRepricingRun> findFirstByStatus(QuotationRepricingRunStatus status);
+}
@@ -0,0 +1,168 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.domain.quotation.dto.response.QuotationRepricingResponse;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationRepricingRunResponse;
+import com.example.linkcargo.domain.user.Role;
+import com.example.linkcargo.domain.user.User;
+import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import com.example.linkcargo.global.response.exception.handler.UsersHandler;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예측 견적서 일괄 재계산 실행 관리
+ * <p>
+ * 운영자만 실행하고 조회할 수 있다. 재계산은 요청 스레드 밖에서 수행하고, 요청에는 실행 아이디만 돌려준다. 전체 인스턴스에서 RUNNING 실행은 하나만 허용되며(status
+ * partial unique index), 실행 중에 다시 요청되면 새로 시작하지 않고 진행 중인 실행을 돌려준다. 배치마다 진행 상황을 기록하고, 기록이
+ * 점유 시간 이상 멈춘 실행은 중단된 것으로 보고 FAILED 로 바꾼다.
+ */
+@Slf4j
+@Service
+public class QuotationRepricingRunService {
+
+    private final QuotationRepricingRunRepository quotationRepricingRunRepository;
+    private final QuotationRepricingService quotationRepricingService;
+    private final UserRepository userRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Duration lease;
+
+    private final ExecutorService runExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quotation-repricing-run");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public QuotationRepricingRunService(
+        QuotationRepricingRunRepository quotationRepricingRunRepository,
+        QuotationRepricingService quotationRepricingService,
+        UserRepository userRepository,
+        MongoTemplate mongoTemplate,
+        @Value("${quotation.repricing.run-lease-ms:600000}") long leaseMs
+    ) {
+        this.quotationRepricingRunRepository = quotationRepricingRunRepository;
+        this.quotationRepricingService = quotationRepricingService;
+        this.userRepository = userRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.lease = Duration.ofMillis(leaseMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runExecutor.shutdownNow();
+    }
+
+    public QuotationRepricingRunResponse start(Integer freightCost, Long requestedBy) {
+        checkOperator(requestedBy);
+        recoverExpiredRuns();
+
+        LocalDateTime now = LocalDateTime.now();
+        QuotationRepricingRun run = QuotationRepricingRun.builder()
+            .status(QuotationRepricingRunStatus.RUNNING)
+            .freightCost(freightCost)
+            .repricedCount(0)
+            .skippedCount(0)
+            .requestedBy(String.valueOf(requestedBy))
+            .startedAt(now)
+            .build();
+        run.prePersist();
+
+        QuotationRepricingRun savedRun;
+        try {
+            savedRun = quotationRepricingRunRepository.insert(run);
+        } catch (DuplicateKeyException e) {
+            // 이미 진행 중인 재계산이 있으면 그 실행을 돌려준다
+            return quotationRepricingRunRepository.findFirstByStatus(QuotationRepricingRunStatus.RUNNING)
+                .map(QuotationRepricingRunResponse::fromEntity)
+                .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_UPDATED_FAIL));
+        }
+
+        String runId = savedRun.getId();
+        runExecutor.execute(() -> execute(runId, freightCost));
+        return QuotationRepricingRunResponse.fromEntity(savedRun);
+    }
+
+    public QuotationRepricingRunResponse findRun(String runId, Long userId) {
+        checkOperator(userId);
+        return quotationRepricingRunRepository.findById(runId)
+            .map(QuotationRepricingRunResponse::fromEntity)
+            .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_REPRICING_RUN_NOT_FOUND));
+    }
+
+    private void checkOperator(Long userId) {
+        if (userId == null) {
+            throw new UsersHandler(ErrorStatus.LOGIN_REQUIRED);
+        }
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new UsersHandler(ErrorStatus.USER_NOT_FOUND));
+        if (user.getRole() != Role.OPERATOR) {
+            throw new UsersHandler(ErrorStatus.NOT_OPERATOR);
+        }
+    }
+
+    // 진행 기록이 점유 시간 이상 멈춘 실행 정리 (처리 중 서버 종료 등)
+    @Scheduled(fixedDelayString = "${quotation.repricing.recover-interval-ms:60000}")
+    public void recoverExpiredRuns() {
+        LocalDateTime now = LocalDateTime.now();
+        long recovered = mongoTemplate.updateMulti(
+            Query.query(Criteria.where("status").is(QuotationRepricingRunStatus.RUNNING)
+                .and("updated_at").lt(now.minus(lease))),
+            new Update()
+                .set("status", QuotationRepricingRunStatus.FAILED)
+                .set("lastError", "진행 기록이 멈춰 중단된 것으로 처리했습니다.")
+                .set("finishedAt", now)
+                .set("updated_at", now),
+            QuotationRepricingRun.class).getModifiedCount();
+        if (recovered > 0) {
+            log.warn("진행이 멈춘 견적서 일괄 재계산 {}건을 중단 처리했습니다.", recovered);
+        }
+    }
+
+    private void execute(String runId, Integer freightCost) {
+        try {
+            QuotationRepricingResponse result = quotationRepricingService.repriceAllPredictionSheets(freightCost,
+                progress -> update(runId, progress, new Update()));
+            update(runId, result, new Update()
+                .set("status", QuotationRepricingRunStatus.COMPLETED)
+                .set("finishedAt", LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("견적서 일괄 재계산이 실패했습니다. runId={}", runId, e);
+            mongoTemplate.updateFirst(runningQuery(runId),
+                new Update()
+                    .set("status", QuotationRepricingRunStatus.FAILED)
+                    .set("lastError", e.getMessage())
+                    .set("finishedAt", LocalDateTime.now())
+                    .set("updated_at", LocalDateTime.now()),
+                QuotationRepricingRun.class);
+        }
+    }
+
+    // 중단 처리된 실행은 다시 덮어쓰지 않는다
+    private void update(String runId, QuotationRepricingResponse progress, Update update) {
+        mongoTemplate.updateFirst(runningQuery(runId),
+            update
+                .set("repricedCount", progress.repricedCount())
+                .set("skippedCount", progress.skippedCount())
+                .set("exchangeRate", progress.exchangeRate())
+                .set("updated_at", LocalDateTime.now()),
+            QuotationRepricingRun.class);
+    }
+
+    private Query runningQuery(String runId) {
+        return Query.query(Criteria.where("id").is(runId)
+            .and("status").is(QuotationRepricingRunStatus.RUNNING));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.linkcargo.domain.quotation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QuotationRepricingRunStatus {
+    RUNNING, // 재계산 중
+    COMPLETED, // 모든 예측 견적서 재계산 완료
+    FAILED // 오류 또는 서버 종료로 중단
+
+}
@@ -0,0 +1,268 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.cargo.CargoDerivedMetricsWriter;
+import com.example.linkcargo.domain.cargo.CargoRepository;
+import com.example.linkcargo.domain.exchange.ExchangeRateProvider;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationRepricingResponse;
+import com.example.linkcargo.domain.schedule.ScheduleRoute;
+import com.example.linkcargo.domain.schedule.ScheduleRouteCache;
+import com.example.linkcargo.domain.tariff.RateCard;
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 예측 견적서(PREDICTION_SHEET) 일괄 재계산
+ * <p>
+ * 운임 지수나 환율이 바뀌었을 때 여러 견적서를 한 번에 재계산한다. 화물은 배치 단위로 한 번의 $in 쿼리로 조회하고, 비용 계산은 제한된
+ * ForkJoinPool 에서 병렬로 수행하며, 결과는 Mongo bulk update 로 저장한다.
+ */
+@Slf4j
+@Service
+public class QuotationRepricingService {
+
+    private final CargoRepository cargoRepository;
+    private final CargoDerivedMetricsWriter cargoDerivedMetricsWriter;
+    private final ScheduleRouteCache scheduleRouteCache;
+    private final QuotationCalculationService quotationCalculationService;
+    private final ExchangeRateProvider exchangeRateProvider;
+    private final MongoTemplate mongoTemplate;
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ForkJoinPool repricingPool;
+    private final int batchSize;
+    private final CostCalculationKernel kernel;
+
+    public QuotationRepricingService(
+        CargoRepository cargoRepository,
+        CargoDerivedMetricsWriter cargoDerivedMetricsWriter,
+        ScheduleRouteCache scheduleRouteCache,
+        QuotationCalculationService quotationCalculationService,
+        ExchangeRateProvider exchangeRateProvider,
+        MongoTemplate mongoTemplate,
+        DataVersionRegistry dataVersionRegistry,
+        @Value("${quotation.repricing.parallelism:0}") int parallelism,
+        @Value("${quotation.repricing.batch-size:1000}") int batchSize,
+        @Value("${quotation.repricing.kernel:FIXED_POINT}") CostCalculationKernel kernel
+    ) {
+        this.cargoRepository = cargoRepository;
+        this.cargoDerivedMetricsWriter = cargoDerivedMetricsWriter;
+        this.scheduleRouteCache = scheduleRouteCache;
+        this.quotationCalculationService = quotationCalculationService;
+        this.exchangeRateProvider = exchangeRateProvider;
+        this.mongoTemplate = mongoTemplate;
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.repricingPool = new ForkJoinPool(
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.batchSize = batchSize;
+        this.kernel = kernel;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        repricingPool.shutdown();
+    }
+
+    /**
+     * 모든 예측 견적서 재계산. 배치마다 누적 결과를 progress 로 전달한다.
+     */
+    public QuotationRepricingResponse repriceAllPredictionSheets(Integer freightCost,
+        Consumer<QuotationRepricingResponse> progress) {
+        int exchangeRate = exchangeRateProvider.getUsdRate();
+        int repricedCount = 0;
+        int skippedCount = 0;
+
+        String lastId = null;
+        List<Quotation> batch;
+        do {
+            batch = findPredictionSheetsAfter(lastId);
+            if (batch.isEmpty()) {
+                break;
+            }
+            int repriced = repriceBatch(batch, freightCost, exchangeRate);
+            repricedCount += repriced;
+            skippedCount += batch.size() - repriced;
+            lastId = batch.get(batch.size() - 1).getId();
+            if (batch.size() == batchSize) {
+                progress.accept(QuotationRepricingResponse.builder()
+                    .repricedCount(repricedCount)
+                    .skippedCount(skippedCount)
+                    .freightCost(freightCost)
+                    .exchangeRate(exchangeRate)
+                    .build());
+            }
+        } while (batch.size() == batchSize);
+
+        return QuotationRepricingResponse.builder()
+            .repricedCount(repricedCount)
+            .skippedCount(skippedCount)
+            .freightCost(freightCost)
+            .exchangeRate(exchangeRate)
+            .build();
+    }
+
+    /**
+     * 주어진 예측 견적서 재계산
+     */
+    public QuotationRepricingResponse reprice(Collection<Quotation> quotations, Integer freightCost) {
+        int exchangeRate = exchangeRateProvider.getUsdRate();
+        int repricedCount = repriceBatch(List.copyOf(quotations), freightCost, exchangeRate);
+
+        return QuotationRepricingResponse.builder()
+            .repricedCount(repricedCount)
+            .skippedCount(quotations.size() - repricedCount)
+            .freightCost(freightCost)
+            .exchangeRate(exchangeRate)
+            .build();
+    }
+
+    // 이전 배치의 마지막 id 다음부터 batchSize 건 (키셋 페이징, status_id 인덱스 범위 스캔)
+    private List<Quotation> findPredictionSheetsAfter(String lastId) {
+        Criteria criteria = Criteria.where("quotationStatus").is(QuotationStatus.PREDICTION_SHEET);
+        if (lastId != null) {
+            criteria.and("id").gt(lastId);
+        }
+        return mongoTemplate.find(Query.query(criteria)
+            .with(Sort.by(Sort.Direction.ASC, "id"))
+            .limit(batchSize), Quotation.class);
+    }
+
+    private int repriceBatch(List<Quotation> quotations, Integer freightCost, int exchangeRate) {
+        if (quotations.isEmpty()) {
+            return 0;
+        }
+
+        // 배치 내 모든 화물을 한 번에 조회
+        List<String> cargoIds = quotations.stream()
+            .flatMap(quotation -> quotation.getCost().getCargoIds().stream())
+            .distinct()
+            .toList();
+        Map<String, Cargo> cargoMap = cargoRepository.findAllById(cargoIds).stream()
+            .collect(Collectors.toMap(Cargo::getId, Function.identity()));
+        // 병렬 계산 전에 환율 기준이 낡은 파생 지표를 한 번에 갱신
+        cargoDerivedMetricsWriter.refreshStale(cargoMap.values(), exchangeRate);
+
+        // 견적서별 요율은 스케줄 항로 캐시(없는 항목만 한 번에 조회)와 메모리 요율표에서 찾는다
+        List<Long> scheduleIds = quotations.stream()
+            .map(this::scheduleIdOf)
+            .filter(Objects::nonNull)
+            .map(Long::valueOf)
+            .distinct()
+            .toList();
+        Map<Long, ScheduleRoute> routeMap = scheduleRouteCache.findRoutes(scheduleIds);
+        Map<String, RateCard> rateCardMap = quotations.stream()
+            .filter(quotation -> scheduleIdOf(quotation) != null
+                && routeMap.containsKey(Long.valueOf(scheduleIdOf(quotation))))
+            .collect(Collectors.toMap(Quotation::getId, quotation -> quotationCalculationService.findRateCard(
+                routeMap.get(Long.valueOf(scheduleIdOf(quotation))), quotation.getForwarderId())));
+
+        List<RepricedCost> repricedCosts = computeInParallel(quotations, cargoMap, rateCardMap, freightCost,
+            exchangeRate);
+        if (repricedCosts.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Quotation.class);
+        for (RepricedCost repricedCost : repricedCosts) {
+            bulkOperations.updateOne(
+                Query.query(Criteria.where("id").is(repricedCost.quotationId())),
+                new Update()
+                    .set("cost.totalCost", new Decimal128(repricedCost.totalCost()))
+                    .set("updated_at", now));
+        }
+        bulkOperations.execute();
+        dataVersionRegistry.bump(DataResource.QUOTATION);
+
+        return repricedCosts.size();
+    }
+
+    private List<RepricedCost> computeInParallel(
+        List<Quotation> quotations,
+        Map<String, Cargo> cargoMap,
+        Map<String, RateCard> rateCardMap,
+        Integer freightCost,
+        int exchangeRate
+    ) {
+        try {
+            return repricingPool.submit(() -> quotations.parallelStream()
+                    .map(quotation -> computeCost(quotation, cargoMap, rateCardMap.get(quotation.getId()), freightCost,
+                        exchangeRate))
+                    .filter(Objects::nonNull)
+                    .toList())
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QuotationHandler(ErrorStatus.QUOTATION_UPDATED_FAIL);
+        } catch (ExecutionException e) {
+            log.error("견적서 일괄 재계산에 실패했습니다.", e.getCause());
+            throw new QuotationHandler(ErrorStatus.QUOTATION_UPDATED_FAIL);
+        }
+    }
+
+    private RepricedCost computeCost(
+        Quotation quotation,
+        Map<String, Cargo> cargoMap,
+        RateCard rateCard,
+        Integer freightCost,
+        int exchangeRate
+    ) {
+        if (rateCard == null) {
+            log.warn("스케줄 정보가 없어 견적서 재계산을 건너뜁니다. quotationId={}", quotation.getId());
+            return null;
+        }
+
+        List<String> cargoIds = quotation.getCost().getCargoIds();
+        List<Cargo> cargos = cargoIds.stream()
+            .map(cargoMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        // 삭제된 화물이 포함된 견적서는 건너뛴다
+        if (cargos.isEmpty() || cargos.size() != cargoIds.size()) {
+            log.warn("화물 정보가 없어 견적서 재계산을 건너뜁니다. quotationId={}", quotation.getId());
+            return null;
+        }
+
+        try {
+            BigDecimal totalCost = quotationCalculationService.calculateTotalCost(cargos, freightCost, exchangeRate,
+                rateCard, kernel);
+            return new RepricedCost(quotation.getId(),
+                quotationCalculationService.toPredictionSheetCost(totalCost, exchangeRate));
+        } catch (RuntimeException e) {
+            log.warn("견적서 재계산 중 오류가 발생해 건너뜁니다. quotationId={}, {}", quotation.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String scheduleIdOf(Quotation quotation) {
+        return quotation.getFreight() != null ? quotation.getFreight().getScheduleId() : null;
+    }
+
+    private record RepricedCost(String quotationId, BigDecimal totalCost) {
+
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.linkcargo.domain.quotation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포워더 견적서(DETAIL_INFO) 조립.
+ * <p>
+ * 포워더 견적서는 화주 견적서(originalQuotationId)를 참조하고 포워더가 입력한 비용 항목만 저장한다. 화주 견적서에서 오는 스케줄과
+ * 화물 목록은 읽을 때 원본을 한 번에 조회해 채운다. 예전처럼 전체를 복사해 저장된 견적서는 그대로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotationRevisionAssembler {
+
+    private final QuotationRepository quotationRepository;
+
+    /**
+     * 포워더 견적서의 빠진 필드를 원본에서 채운다. 원본이 삭제된 견적서는 제외한다.
+     */
+    public List<Quotation> assemble(List<Quotation> quotations) {
+        Set<String> originalIds = quotations.stream()
+            .filter(this::isRevision)
+            .map(Quotation::getOriginalQuotationId)
+            .collect(Collectors.toSet());
+        if (originalIds.isEmpty()) {
+            return quotations;
+        }
+
+        Map<String, Quotation> originalMap = quotationRepository.findRevisionBasesByIdIn(originalIds).stream()
+            .collect(Collectors.toMap(Quotation::getId, Function.identity()));
+
+        return quotations.stream()
+            .filter(quotation -> !isRevision(quotation) || originalMap.containsKey(quotation.getOriginalQuotationId()))
+            .map(quotation -> isRevision(quotation)
+                ? assemble(quotation, originalMap.get(quotation.getOriginalQuotationId()))
+                : quotation)
+            .toList();
+    }
+
+    public Quotation assemble(Quotation revision, Quotation original) {
+        Quotation.Freight freight = revision.getFreight() != null ? revision.getFreight() : new Quotation.Freight();
+        freight.setScheduleId(original.getFreight() != null ? original.getFreight().getScheduleId() : null);
+        revision.setFreight(freight);
+
+        Quotation.Cost cost = revision.getCost() != null ? revision.getCost() : new Quotation.Cost();
+        cost.setCargoIds(original.getCost() != null ? original.getCost().getCargoIds() : null);
+        revision.setCost(cost);
+        return revision;
+    }
+
+    // 원본을 참조만 하는 포워더 견적서
+    private boolean isRevision(Quotation quotation) {
+        return quotation.getQuotationStatus() == QuotationStatus.DETAIL_INFO
+            && quotation.getOriginalQuotationId() != null
+            && (quotation.getFreight() == null || quotation.getFreight().getScheduleId() == null);
+    }
+}
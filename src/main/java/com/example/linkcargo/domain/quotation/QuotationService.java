@@ -1,35 +1,69 @@
 package com.example.linkcargo.domain.quotation;
 
 import com.example.linkcargo.domain.cargo.CargoRepository;
+import com.example.linkcargo.domain.dashboard.QuotationComparisonService;
 import com.example.linkcargo.domain.quotation.dto.request.QuotationConsignorRequest;
 import com.example.linkcargo.domain.quotation.dto.request.QuotationForwarderRequest;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationHistoryResponse;
 import com.example.linkcargo.domain.quotation.dto.response.QuotationInfoResponse;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationSummaryResponse;
+import com.example.linkcargo.domain.schedule.Schedule;
 import com.example.linkcargo.domain.schedule.ScheduleRepository;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.GeneralException;
 import com.example.linkcargo.global.response.exception.handler.CargoHandler;
 import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
 import com.example.linkcargo.global.response.exception.handler.ScheduleHandler;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuotationService {
 
     private final QuotationRepository quotationRepository;
     private final CargoRepository cargoRepository;
     private final ScheduleRepository scheduleRepository;
-
-
-
+    private final QuotationComparisonService quotationComparisonService;
+    private final QuotationRevisionAssembler quotationRevisionAssembler;
+    private final MongoTemplate mongoTemplate;
+    private final int insertBatchSize;
+    private final int maxHistoryPageSize;
+
+    public QuotationService(
+        QuotationRepository quotationRepository,
+        CargoRepository cargoRepository,
+        ScheduleRepository scheduleRepository,
+        QuotationComparisonService quotationComparisonService,
+        QuotationRevisionAssembler quotationRevisionAssembler,
+        MongoTemplate mongoTemplate,
+        @Value("${quotation.bulk.insert-batch-size:500}") int insertBatchSize,
+        @Value("${quotation.history.max-page-size:100}") int maxHistoryPageSize
+    ) {
+        this.quotationRepository = quotationRepository;
+        this.cargoRepository = cargoRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.quotationComparisonService = quotationComparisonService;
+        this.quotationRevisionAssembler = quotationRevisionAssembler;
+        this.mongoTemplate = mongoTemplate;
+        this.insertBatchSize = insertBatchSize;
+        this.maxHistoryPageSize = maxHistoryPageSize;
+    }
 
     @Transactional
     public Quotation createQuotationByConsignor(QuotationConsignorRequest request, Long userId) {
@@ -64,42 +98,60 @@ public class QuotationService {
     }
 
 
+    /**
+     * 견적서 여러 개 생성. 중복, 화물, 스케줄 검증을 각각 한 번의 조회로 끝내고 insertBatchSize 단위로 나눠 저장한다.
+     */
     @Transactional
     public List<Quotation> createQuotationsByConsignor(List<QuotationConsignorRequest> requests, Long userId) {
+        String consignorId = String.valueOf(userId);
+
+        // 요청 안에서 같은 스케줄이 반복되는 경우
+        Set<Long> scheduleIds = new LinkedHashSet<>();
+        for (QuotationConsignorRequest request : requests) {
+            if (!scheduleIds.add(request.scheduleId())) {
+                throw new GeneralException(ErrorStatus.QUOTATION_DUPLICATE);
+            }
+        }
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
 
-        return requests.stream()
+        // 이미 같은 스케줄로 요청한 견적서가 있는 경우
+        List<String> scheduleIdStrings = scheduleIds.stream()
+            .map(String::valueOf)
+            .toList();
+        if (quotationRepository.existsByConsignorIdAndFreight_ScheduleIdIn(consignorId, scheduleIdStrings)) {
+            throw new GeneralException(ErrorStatus.QUOTATION_DUPLICATE);
+        }
+
+        // 모든 cargoId의 존재 여부 확인
+        Set<String> cargoIds = requests.stream()
+            .flatMap(request -> request.cargoIds().stream())
+            .collect(Collectors.toSet());
+        if (cargoRepository.countByIdIn(cargoIds) != cargoIds.size()) {
+            throw new CargoHandler(ErrorStatus.CARGO_NOT_FOUND);
+        }
+
+        // Schedule 존재 여부 확인
+        if (scheduleRepository.findAllById(scheduleIds).size() != scheduleIds.size()) {
+            throw new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND);
+        }
+
+        List<Quotation> quotations = requests.stream()
             .map(request -> {
-                List<String> cargoIds = request.cargoIds();
-
-                // 모든 cargoId에 대해 중복 검사
-                cargoIds.forEach(cargoId -> {
-                    boolean isDuplicate = quotationRepository.existsByConsignorIdAndFreight_ScheduleId(
-                        String.valueOf(userId),
-                        String.valueOf(request.scheduleId())
-                    );
-
-                    if (isDuplicate) {
-                        throw new GeneralException(ErrorStatus.QUOTATION_DUPLICATE);
-                    }
-                });
-
-                // 모든 cargoId의 존재 여부 확인
-                cargoIds.forEach(cargoId ->
-                    cargoRepository.findById(cargoId)
-                        .orElseThrow(() -> new CargoHandler(ErrorStatus.CARGO_NOT_FOUND))
-                );
-
-                // Schedule 존재 여부 확인
-                scheduleRepository.findById(request.scheduleId())
-                    .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND));
-
-                // 하나의 Quotation 생성 (여러 cargoIds 포함)
-                Quotation quotation = request.toEntity(String.valueOf(userId));
+                Quotation quotation = request.toEntity(consignorId);
                 quotation.prePersist();
                 quotation.setQuotationStatus(QuotationStatus.BASIC_INFO);
-                return quotationRepository.save(quotation);
+                return quotation;
             })
-            .collect(Collectors.toList());
+            .toList();
+
+        List<Quotation> savedQuotations = new ArrayList<>(quotations.size());
+        for (int from = 0; from < quotations.size(); from += insertBatchSize) {
+            List<Quotation> batch = quotations.subList(from, Math.min(from + insertBatchSize, quotations.size()));
+            savedQuotations.addAll(quotationRepository.insert(batch));
+        }
+        return savedQuotations;
     }
 
     @Transactional
@@ -107,38 +159,121 @@ public class QuotationService {
         Quotation quotation = quotationRepository.findById(request.quotationId())
             .orElseThrow(() -> new QuotationHandler(ErrorStatus.QUOTATION_NOT_FOUND));
 
+        // 원본 전체를 복사하지 않고 포워더가 입력한 항목만 저장
+        Quotation savedQuotation;
         try {
-            Quotation newQuotation = request.updateQuotation(quotation, String.valueOf(userId));
-            newQuotation.setQuotationStatus(QuotationStatus.DETAIL_INFO);
-            newQuotation.setId(null);
-            Quotation savedQuotation = quotationRepository.save(newQuotation);
-            return savedQuotation.getId();
+            Quotation revision = request.toRevision(quotation, String.valueOf(userId));
+            revision.prePersist();
+            savedQuotation = quotationRepository.save(revision);
         } catch (Exception e) {
             throw new QuotationHandler(ErrorStatus.QUOTATION_UPDATED_FAIL);
         }
 
+        // 대시보드 비교표에 새 견적서 반영
+        quotationComparisonService.append(quotationRevisionAssembler.assemble(savedQuotation, quotation));
+        return savedQuotation.getId();
+
     }
 
 
     public List<QuotationInfoResponse> findQuotationsByQuotationId(String quotationId) {
-        List<Quotation> quotations = quotationRepository.findQuotationsByIdOrOriginalQuotationId(quotationId, quotationId);
+        return toQuotationInfoResponses(quotationRepository.findDetailsByIdOrOriginalQuotationId(quotationId));
+    }
 
+    public List<QuotationInfoResponse> findQuotationsByConsignorId(Long id) {
+        return toQuotationInfoResponses(quotationRepository.findDetailsByConsignorId(String.valueOf(id)));
+    }
+
+    /**
+     * 화주의 견적서 목록 (목록 화면에 필요한 필드만 조회)
+     */
+    public List<QuotationSummaryResponse> findQuotationSummariesByConsignorId(Long id) {
+        List<Quotation> quotations = quotationRevisionAssembler.assemble(
+            quotationRepository.findSummariesByConsignorId(String.valueOf(id)));
         return quotations.stream()
-            .map(quotation -> QuotationInfoResponse.fromEntity(quotation, scheduleRepository.findById(
-                Long.valueOf(quotation.getFreight().getScheduleId()))
-                .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND))))
+            .map(QuotationSummaryResponse::fromEntity)
             .toList();
     }
 
-    public List<QuotationInfoResponse> findQuotationsByConsignorId(Long id) {
-        List<Quotation> quotations = quotationRepository.findQuotationsByConsignorId(
-            String.valueOf(id));
+    /**
+     * 화주의 견적서 이력. 생성일, id 역순 커서 페이징이며 상태와 스케줄로 거를 수 있다. 스케줄은 페이지 단위로 한 번에 조회한다.
+     */
+    public QuotationHistoryResponse findQuotationHistory(Long id, String cursor, int size, QuotationStatus status,
+        Long scheduleId) {
+        int pageSize = Math.max(1, Math.min(size, maxHistoryPageSize));
+
+        String consignorId = String.valueOf(id);
+        Criteria criteria = Criteria.where("consignorId").is(consignorId);
+        if (status != null) {
+            criteria = criteria.and("quotationStatus").is(status);
+        }
+        List<Criteria> conditions = new ArrayList<>();
+        if (scheduleId != null) {
+            conditions.add(onSchedule(consignorId, String.valueOf(scheduleId)));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            conditions.add(after(QuotationHistoryCursor.decode(cursor)));
+        }
+        if (!conditions.isEmpty()) {
+            criteria = criteria.andOperator(conditions);
+        }
 
-        return quotations.stream()
-            .map(quotation -> QuotationInfoResponse.fromEntity(quotation, scheduleRepository.findById(
-                    Long.valueOf(quotation.getFreight().getScheduleId()))
-                .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND))))
+        Query query = Query.query(criteria)
+            .with(Sort.by(Sort.Direction.DESC, "createdAt", "id"))
+            .limit(pageSize + 1);
+        query.fields()
+            .include("originalQuotationId", "quotationStatus", "freight", "createdAt")
+            .include("cost.freightCost", "cost.chargeExport", "cost.totalCost");
+        List<Quotation> quotations = mongoTemplate.find(query, Quotation.class);
+
+        boolean hasNext = quotations.size() > pageSize;
+        List<Quotation> page = hasNext ? quotations.subList(0, pageSize) : quotations;
+        String nextCursor = hasNext ? QuotationHistoryCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new QuotationHistoryResponse(toQuotationInfoResponses(page), nextCursor, hasNext);
+    }
+
+    // 해당 스케줄의 견적서. 포워더 견적서는 스케줄을 저장하지 않으므로 원본 견적서로 찾는다
+    private Criteria onSchedule(String consignorId, String scheduleId) {
+        Query originalQuery = Query.query(Criteria.where("consignorId").is(consignorId)
+            .and("freight.scheduleId").is(scheduleId));
+        originalQuery.fields().include("id");
+        List<String> originalIds = mongoTemplate.find(originalQuery, Quotation.class).stream()
+            .map(Quotation::getId)
             .toList();
+
+        return new Criteria().orOperator(
+            Criteria.where("freight.scheduleId").is(scheduleId),
+            Criteria.where("originalQuotationId").in(originalIds));
+    }
+
+    // (createdAt, id) 역순에서 커서 다음에 오는 견적서. createdAt 이 없는 견적서는 가장 뒤에 온다
+    private Criteria after(QuotationHistoryCursor cursor) {
+        if (cursor.createdAt() == null) {
+            return Criteria.where("createdAt").is(null).and("id").lt(cursor.id());
+        }
+        return new Criteria().orOperator(
+            Criteria.where("createdAt").lt(cursor.createdAt()),
+            Criteria.where("createdAt").is(cursor.createdAt()).and("id").lt(cursor.id()),
+            Criteria.where("createdAt").is(null));
     }
 
+    // 포워더 견적서는 원본 필드를 채운 뒤, 스케줄(항구 포함)은 한 번에 조회
+    private List<QuotationInfoResponse> toQuotationInfoResponses(List<Quotation> storedQuotations) {
+        List<Quotation> quotations = quotationRevisionAssembler.assemble(storedQuotations);
+        Set<Long> scheduleIds = quotations.stream()
+            .map(quotation -> Long.valueOf(quotation.getFreight().getScheduleId()))
+            .collect(Collectors.toSet());
+        Map<Long, Schedule> scheduleMap = scheduleRepository.findAllWithPortsByIdIn(scheduleIds).stream()
+            .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+
+        return quotations.stream()
+            .map(quotation -> {
+                Schedule schedule = scheduleMap.get(Long.valueOf(quotation.getFreight().getScheduleId()));
+                if (schedule == null) {
+                    throw new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND);
+                }
+                return QuotationInfoResponse.fromEntity(quotation, schedule);
+            })
+            .toList();
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.linkcargo.domain.quotation;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 문자열로 저장된 견적서 총 비용(cost.totalCost)을 Decimal128 로 바꾼다.
+ * <p>
+ * 예전에는 BigDecimal 이 문자열로 저장되어 총 비용 정렬($sort, $limit)이 사전 순("85" > "120")으로 동작했다. 시작 시 한 번
+ * 문자열인 문서만 서버에서 변환하며, 이미 변환된 문서는 건드리지 않으므로 여러 인스턴스가 동시에 실행해도 된다. 숫자로 읽을 수 없는 값은
+ * 그대로 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuotationTotalCostMigration {
+
+    private static final String TOTAL_COST = "cost.totalCost";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            long modified = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Quotation.class))
+                .updateMany(
+                    new Document(TOTAL_COST, new Document("$type", "string")),
+                    List.of(new Document("$set", new Document(TOTAL_COST, new Document("$convert", new Document()
+                        .append("input", "$" + TOTAL_COST)
+                        .append("to", "decimal")
+                        .append("onError", "$" + TOTAL_COST))))))
+                .getModifiedCount();
+            if (modified > 0) {
+                log.info("문자열로 저장된 견적서 총 비용 {}건을 Decimal128 로 변환했습니다.", modified);
+            }
+        } catch (RuntimeException e) {
+            // 변환하지 못해도 읽기는 가능하므로 시작은 계속한다 (정렬만 부정확)
+            log.error("견적서 총 비용 변환에 실패했습니다.", e);
+        }
+    }
+}
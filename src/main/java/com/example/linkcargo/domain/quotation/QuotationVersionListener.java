@@ -0,0 +1,29 @@
+package com.example.linkcargo.domain.quotation;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 견적서가 저장되거나 삭제되면 견적서 데이터 버전을 올린다. bulkOps 등 이벤트가 발생하지 않는 쓰기는 호출한 쪽에서 직접 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotationVersionListener extends AbstractMongoEventListener<Quotation> {
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Quotation> event) {
+        dataVersionRegistry.bump(DataResource.QUOTATION);
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Quotation> event) {
+        dataVersionRegistry.bump(DataResource.QUOTATION);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.quotation.dto.response;
+
+import java.util.List;
+
+public record QuotationHistoryResponse(
+    List<QuotationInfoResponse> quotations,
+    String nextCursor, // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    boolean hasNext
+) {
+
+}
@@ -0,0 +1,28 @@
+package com.example.linkcargo.domain.quotation.dto.response;
+
+import com.example.linkcargo.domain.quotation.QuotationPricingJob;
+import com.example.linkcargo.domain.quotation.QuotationPricingJobStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record QuotationPricingJobResponse(
+    String quotationId,
+    QuotationPricingJobStatus status,
+    Integer attempts,
+    String predictionQuotationId, // 완료 시 생성된 예측 견적서 ID
+    String lastError,
+    LocalDateTime updatedAt
+) {
+
+    public static QuotationPricingJobResponse fromEntity(QuotationPricingJob job) {
+        return QuotationPricingJobResponse.builder()
+            .quotationId(job.getQuotationId())
+            .status(job.getStatus())
+            .attempts(job.getAttempts())
+            .predictionQuotationId(job.getPredictionQuotationId())
+            .lastError(job.getLastError())
+            .updatedAt(job.getUpdatedAt())
+            .build();
+    }
+}
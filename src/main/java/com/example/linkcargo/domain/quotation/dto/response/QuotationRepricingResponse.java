@@ -0,0 +1,13 @@
+package com.example.linkcargo.domain.quotation.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record QuotationRepricingResponse(
+    Integer repricedCount,
+    Integer skippedCount,
+    Integer freightCost,
+    Integer exchangeRate
+) {
+
+}
@@ -0,0 +1,34 @@
+package com.example.linkcargo.domain.quotation.dto.response;
+
+import com.example.linkcargo.domain.quotation.QuotationRepricingRun;
+import com.example.linkcargo.domain.quotation.QuotationRepricingRunStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record QuotationRepricingRunResponse(
+    String runId, // 상태 조회용 아이디
+    QuotationRepricingRunStatus status,
+    Integer freightCost,
+    Integer exchangeRate,
+    Integer repricedCount, // 지금까지 재계산된 견적서 수
+    Integer skippedCount,
+    String lastError,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+
+    public static QuotationRepricingRunResponse fromEntity(QuotationRepricingRun run) {
+        return QuotationRepricingRunResponse.builder()
+            .runId(run.getId())
+            .status(run.getStatus())
+            .freightCost(run.getFreightCost())
+            .exchangeRate(run.getExchangeRate())
+            .repricedCount(run.getRepricedCount())
+            .skippedCount(run.getSkippedCount())
+            .lastError(run.getLastError())
+            .startedAt(run.getStartedAt())
+            .finishedAt(run.getFinishedAt())
+            .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.linkcargo.domain.quotation.dto.response;
+
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationStatus;
+import java.math.BigDecimal;
+import lombok.Builder;
+
+@Builder
+public record QuotationSummaryResponse(
+    String quotationId,
+    QuotationStatus quotationStatus,
+    BigDecimal totalCost,
+    String scheduleId,
+    String forwarderId
+) {
+
+    public static QuotationSummaryResponse fromEntity(Quotation quotation) {
+        return QuotationSummaryResponse.builder()
+            .quotationId(quotation.getId())
+            .quotationStatus(quotation.getQuotationStatus())
+            .totalCost(quotation.getCost() != null ? quotation.getCost().getTotalCost() : null)
+            .scheduleId(quotation.getFreight() != null ? quotation.getFreight().getScheduleId() : null)
+            .forwarderId(quotation.getForwarderId())
+            .build();
+    }
+}
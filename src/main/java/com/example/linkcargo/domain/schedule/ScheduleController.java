@@ -3,6 +3,8 @@ package com.example.linkcargo.domain.schedule;
 import com.example.linkcargo.domain.schedule.dto.request.ScheduleCreateUpdateRequest;
 import com.example.linkcargo.domain.schedule.dto.response.ScheduleInfoResponse;
 import com.example.linkcargo.domain.schedule.dto.response.ScheduleListResponse;
+import com.example.linkcargo.global.etag.ConditionalGet;
+import com.example.linkcargo.global.etag.DataResource;
 import com.example.linkcargo.global.response.ApiResponse;
 import com.example.linkcargo.global.response.code.resultCode.SuccessStatus;
 import com.example.linkcargo.global.security.CustomUserDetail;
@@ -47,6 +49,7 @@ public class ScheduleController {
 
     @Operation(summary = "선박 스케줄 단일 조회 ", description = "선박 스케줄 아이디에 따라 선박 스케줄을 조회 합니다. ScheduleInfoResponse 사용")
     @GetMapping("/{scheduleId}")
+    @ConditionalGet(resources = {DataResource.SCHEDULE, DataResource.PORT})
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "SCHEDULE403", description = "선박 스케줄이 존재 하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
@@ -60,6 +63,7 @@ public class ScheduleController {
 
     @Operation(summary = "선박 스케줄 리스트 조회 ", description = "모든 선박 스케줄을 조회 합니다. ScheduleListResponse 사용")
     @GetMapping("")
+    @ConditionalGet(resources = {DataResource.SCHEDULE, DataResource.PORT})
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
     })
@@ -1,6 +1,8 @@
 package com.example.linkcargo.domain.schedule;
 
+import com.example.linkcargo.domain.congestion.PortTraffic;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,8 +20,30 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
         Pageable pageable
     );
 
-    @Query("SELECT s FROM Schedule s WHERE " +
-        "(FUNCTION('YEAR', s.ETD) = :year AND FUNCTION('MONTH', s.ETD) = :month) OR " +
-        "(FUNCTION('YEAR', s.ETA) = :year AND FUNCTION('MONTH', s.ETA) = :month)")
-    List<Schedule> findSchedulesByYearMonth(@Param("year") int year, @Param("month") int month);
+    // (export_port_id, import_port_id, etd) 인덱스를 타도록 항로와 반개구간으로 조회
+    @Query("SELECT s FROM Schedule s WHERE s.exportPort.id = :exportPortId AND s.importPort.id = :importPortId "
+        + "AND s.ETD >= :from AND s.ETD < :to ORDER BY s.ETD")
+    List<Schedule> findRouteSchedulesDepartingBetween(
+        @Param("exportPortId") Long exportPortId,
+        @Param("importPortId") Long importPortId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    // 스케줄별 항로만 조회 (요율 조회용)
+    @Query("SELECT new com.example.linkcargo.domain.schedule.ScheduleRoute(s.id, s.exportPort.id, s.importPort.id) "
+        + "FROM Schedule s WHERE s.id IN :ids")
+    List<ScheduleRoute> findRoutesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 수출항, 수입항을 함께 조회
+    @Query("SELECT s FROM Schedule s LEFT JOIN FETCH s.exportPort LEFT JOIN FETCH s.importPort WHERE s.id IN :ids")
+    List<Schedule> findAllWithPortsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 항구 혼잡도 집계용 입항, 출항 시각
+    @Query("SELECT new com.example.linkcargo.domain.congestion.PortTraffic(s.importPort.id, s.ETA) FROM Schedule s "
+        + "WHERE s.ETA >= :from AND s.ETA < :to")
+    List<PortTraffic> findArrivalsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.example.linkcargo.domain.congestion.PortTraffic(s.exportPort.id, s.ETD) FROM Schedule s "
+        + "WHERE s.ETD >= :from AND s.ETD < :to")
+    List<PortTraffic> findDeparturesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,12 @@
+package com.example.linkcargo.domain.schedule;
+
+/**
+ * 스케줄의 항로 (요율 조회용). 항구가 없는 스케줄은 해당 항구 ID 가 null 이다.
+ */
+public record ScheduleRoute(
+    Long scheduleId,
+    Long exportPortId,
+    Long importPortId
+) {
+
+}
@@ -0,0 +1,126 @@
+package com.example.linkcargo.domain.schedule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 항로(수출항, 수입항)와 출항 월별 선박 스케줄 캐시
+ * <p>
+ * (export_port_id, import_port_id, etd) 인덱스를 타는 범위 조회 결과를 보관하고, 스케줄이 생성·수정·삭제되면 커밋 이후 해당 항로의
+ * 항목을 모두 제거한다. 보관된 스케줄은 조회 전용이며 항구(Port)는 초기화되어 있지 않다.
+ * <p>
+ * 비용 계산 시 요율 조회에 쓰는 스케줄별 항로(scheduleId -> 수출항, 수입항)도 함께 보관하며, 스케줄이 수정·삭제되면 커밋 이후 제거한다.
+ */
+@Component
+public class ScheduleRouteCache {
+
+    private final ScheduleRepository scheduleRepository;
+    private final Cache<Key, List<Schedule>> cache;
+    private final Cache<Long, ScheduleRoute> routes;
+
+    public ScheduleRouteCache(
+        ScheduleRepository scheduleRepository,
+        MeterRegistry meterRegistry,
+        @Value("${schedule.route-cache.maximum-size:1000}") long maximumSize,
+        @Value("${schedule.route-cache.ttl-ms:600000}") long ttlMs,
+        @Value("${schedule.route-cache.route-maximum-size:100000}") long routeMaximumSize
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "schedule.route");
+        this.routes = Caffeine.newBuilder()
+            .maximumSize(routeMaximumSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, routes, "schedule.route.by-id");
+    }
+
+    /**
+     * 스케줄의 항로. 없는 스케줄이면 null
+     */
+    public ScheduleRoute findRoute(Long scheduleId) {
+        return findRoutes(List.of(scheduleId)).get(scheduleId);
+    }
+
+    /**
+     * 여러 스케줄의 항로. 캐시에 없는 스케줄만 한 번의 IN 쿼리로 조회하며, 없는 스케줄은 결과에서 빠진다.
+     */
+    public Map<Long, ScheduleRoute> findRoutes(Collection<Long> scheduleIds) {
+        return routes.getAll(scheduleIds, missingIds -> scheduleRepository.findRoutesByIdIn(Set.copyOf(missingIds))
+            .stream()
+            .collect(Collectors.toMap(ScheduleRoute::scheduleId, Function.identity())));
+    }
+
+    /**
+     * 해당 항로에서 그 달에 출항하는 스케줄 (ETD 순)
+     */
+    public List<Schedule> findSchedules(Long exportPortId, Long importPortId, YearMonth departureMonth) {
+        return cache.get(new Key(exportPortId, importPortId, departureMonth),
+            key -> List.copyOf(scheduleRepository.findRouteSchedulesDepartingBetween(
+                exportPortId,
+                importPortId,
+                departureMonth.atDay(1).atStartOfDay(),
+                departureMonth.plusMonths(1).atDay(1).atStartOfDay())));
+    }
+
+    // 스케줄 생성, 수정, 삭제 시
+    public void invalidateRoute(Long exportPortId, Long importPortId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(exportPortId, importPortId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(exportPortId, importPortId);
+            }
+        });
+    }
+
+    // 스케줄 수정, 삭제 시 (항로가 바뀌었을 수 있다)
+    public void invalidateSchedule(Long scheduleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            routes.invalidate(scheduleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                routes.invalidate(scheduleId);
+            }
+        });
+    }
+
+    private void evict(Long exportPortId, Long importPortId) {
+        cache.asMap().keySet().removeIf(key -> Objects.equals(key.exportPortId(), exportPortId)
+            && Objects.equals(key.importPortId(), importPortId));
+    }
+
+    public record Key(
+        Long exportPortId,
+        Long importPortId,
+        YearMonth departureMonth
+    ) {
+
+    }
+}
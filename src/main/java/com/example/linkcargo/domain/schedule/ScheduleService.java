@@ -1,11 +1,16 @@
 package com.example.linkcargo.domain.schedule;
 
+import com.example.linkcargo.domain.congestion.PortCongestionService;
+import com.example.linkcargo.domain.congestion.ScheduleTraffic;
 import com.example.linkcargo.domain.image.ImageService;
 import com.example.linkcargo.domain.port.Port;
 import com.example.linkcargo.domain.port.PortRepository;
+import com.example.linkcargo.domain.quotation.QuotationCostCache;
 import com.example.linkcargo.domain.schedule.dto.request.ScheduleCreateUpdateRequest;
 import com.example.linkcargo.domain.schedule.dto.response.ScheduleInfoResponse;
 import com.example.linkcargo.domain.schedule.dto.response.ScheduleListResponse;
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.PortHandler;
 import com.example.linkcargo.global.response.exception.handler.ScheduleHandler;
@@ -29,6 +34,10 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final PortRepository portRepository;
     private final ImageService imageService;
+    private final QuotationCostCache quotationCostCache;
+    private final PortCongestionService portCongestionService;
+    private final ScheduleRouteCache scheduleRouteCache;
+    private final DataVersionRegistry dataVersionRegistry;
 
     @Transactional
     public Long createSchedule(ScheduleCreateUpdateRequest request) {
@@ -50,12 +59,16 @@ public class ScheduleService {
         Schedule schedule = request.toEntity(exportPort, importPort);
 
         // 생성 중 예외 발생 시 처리
+        Schedule savedSchedule;
         try {
-            Schedule savedSchedule = scheduleRepository.save(schedule);
-            return savedSchedule.getId();
+            savedSchedule = scheduleRepository.save(schedule);
         } catch (Exception e) {
             throw new ScheduleHandler(ErrorStatus.SCHEDULE_CREATED_FAIL);
         }
+        portCongestionService.applyChange(null, ScheduleTraffic.fromEntity(savedSchedule));
+        scheduleRouteCache.invalidateRoute(exportPort.getId(), importPort.getId());
+        dataVersionRegistry.bump(DataResource.SCHEDULE);
+        return savedSchedule.getId();
     }
 
     public ScheduleInfoResponse findSchedule(Long scheduleId) {
@@ -79,6 +92,8 @@ public class ScheduleService {
         Port importPort = portRepository.findById(request.importPortId())
             .orElseThrow(() -> new PortHandler(ErrorStatus.IMPORT_PORT_NOT_FOUND));
 
+        // 혼잡도 갱신을 위해 수정 전 값을 남겨 둔다
+        ScheduleTraffic before = ScheduleTraffic.fromEntity(schedule);
         Schedule updatedSchedule = request.updateEntity(schedule,exportPort,importPort);
 
         try {
@@ -86,6 +101,12 @@ public class ScheduleService {
         } catch (Exception e) {
             throw new ScheduleHandler(ErrorStatus.SCHEDULE_UPDATED_FAIL);
         }
+        quotationCostCache.invalidateSchedule(String.valueOf(scheduleId));
+        scheduleRouteCache.invalidateSchedule(scheduleId);
+        portCongestionService.applyChange(before, ScheduleTraffic.fromEntity(updatedSchedule));
+        scheduleRouteCache.invalidateRoute(before.exportPortId(), before.importPortId());
+        scheduleRouteCache.invalidateRoute(exportPort.getId(), importPort.getId());
+        dataVersionRegistry.bump(DataResource.SCHEDULE);
     }
 
     @Transactional
@@ -93,11 +114,17 @@ public class ScheduleService {
         Schedule schedule = scheduleRepository.findById(scheduleId)
             .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND));
 
+        ScheduleTraffic before = ScheduleTraffic.fromEntity(schedule);
         try {
             scheduleRepository.delete(schedule);
         } catch (Exception e) {
             throw new ScheduleHandler(ErrorStatus.SCHEDULE_UPDATED_FAIL);
         }
+        quotationCostCache.invalidateSchedule(String.valueOf(scheduleId));
+        scheduleRouteCache.invalidateSchedule(scheduleId);
+        portCongestionService.applyChange(before, null);
+        scheduleRouteCache.invalidateRoute(before.exportPortId(), before.importPortId());
+        dataVersionRegistry.bump(DataResource.SCHEDULE);
     }
 
     public ScheduleListResponse searchSchedules(Long exportPortId, Long importPortId, Double inputCBM, int page, int size) {
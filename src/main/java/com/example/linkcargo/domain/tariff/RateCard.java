@@ -0,0 +1,51 @@
+package com.example.linkcargo.domain.tariff;
+
+import java.math.BigDecimal;
+import lombok.Builder;
+
+/**
+ * 비용 계산에 쓰이는 요율 (불변). 국내 경비는 원화(부가세 포함), AMS 와 국외 경비는 USD 기준이다.
+ */
+@Builder(toBuilder = true)
+public record RateCard(
+    BigDecimal thcPerCbm, // THC (CBM 당)
+    BigDecimal cfsChargePerCbm, // CFS (CBM 당)
+    BigDecimal wharfageFeePerCbm, // WHARFAGE (CBM 당)
+    BigDecimal documentFee, // DOCUMENT FEE
+    BigDecimal handlingFee, // H/C
+    BigDecimal customsClearanceFee, // 통관 수수료
+    BigDecimal domesticTrucking, // 국내 운송료
+    BigDecimal amsFee, // Automated Manifest Service
+    BigDecimal inspectionFee, // 수입 통관 재비용
+    BigDecimal overseaTrucking // 내륙 운송료
+) {
+
+    // 요율표가 없을 때 사용하는 기본 요율 (기존 고정 요율과 동일)
+    public static final RateCard DEFAULT = RateCard.builder()
+        .thcPerCbm(BigDecimal.valueOf(6500))
+        .cfsChargePerCbm(BigDecimal.valueOf(6500))
+        .wharfageFeePerCbm(BigDecimal.valueOf(210))
+        .documentFee(BigDecimal.valueOf(38500)) // 35000 * 1.1
+        .handlingFee(BigDecimal.valueOf(33000)) // 30000 * 1.1
+        .customsClearanceFee(BigDecimal.valueOf(33000)) // 30000 * 1.1
+        .domesticTrucking(BigDecimal.valueOf(165000)) // 150000 * 1.1
+        .amsFee(BigDecimal.valueOf(30))
+        .inspectionFee(new BigDecimal("250.00"))
+        .overseaTrucking(new BigDecimal("250.00"))
+        .build();
+
+    public static RateCard fromEntity(Tariff tariff) {
+        return RateCard.builder()
+            .thcPerCbm(tariff.getThcPerCbm())
+            .cfsChargePerCbm(tariff.getCfsChargePerCbm())
+            .wharfageFeePerCbm(tariff.getWharfageFeePerCbm())
+            .documentFee(tariff.getDocumentFee())
+            .handlingFee(tariff.getHandlingFee())
+            .customsClearanceFee(tariff.getCustomsClearanceFee())
+            .domesticTrucking(tariff.getDomesticTrucking())
+            .amsFee(tariff.getAmsFee())
+            .inspectionFee(tariff.getInspectionFee())
+            .overseaTrucking(tariff.getOverseaTrucking())
+            .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.linkcargo.domain.tariff;
+
+import com.example.linkcargo.global.entity.JpaBaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 요율표 항목. 같은 version 의 항목들이 하나의 요율표를 이루며, 항구 쌍과 포워더가 비어 있으면 해당 조건의 기본 요율로 사용된다.
+ * <p>
+ * 한 버전 안에서 같은 조건의 항목은 하나만 허용한다. NULL 끼리는 unique 제약에서 같은 값으로 보지 않으므로 조건 컬럼 대신 rate_key
+ * (항구 쌍과 포워더, 빈 값은 *) 로 제약을 건다.
+ * <p>
+ * 요율은 모두 소수점 둘째 자리까지 저장한다. 비용 계산(FixedPointCostKernel)의 결과 자릿수가 요율의 자릿수를 따르므로, 배포한
+ * 인스턴스와 DB 에서 다시 읽은 인스턴스의 요율 자릿수가 같아야 한다.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tariffs",
+    indexes = @Index(name = "idx_tariffs_version", columnList = "version"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_tariffs_version_rate_key", columnNames = {"version", "rate_key"}))
+public class Tariff extends JpaBaseEntity {
+
+    public static final int PRECISION = 15;
+    public static final int SCALE = 2;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "export_port_id")
+    private Long exportPortId;
+
+    @Column(name = "import_port_id")
+    private Long importPortId;
+
+    @Column(name = "forwarder_id")
+    private Long forwarderId;
+
+    @Column(name = "rate_key", length = 64)
+    private String rateKey;
+
+    // 국내 발생 경비 (원)
+    @Column(name = "thc_per_cbm", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal thcPerCbm;
+
+    @Column(name = "cfs_charge_per_cbm", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal cfsChargePerCbm;
+
+    @Column(name = "wharfage_fee_per_cbm", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal wharfageFeePerCbm;
+
+    @Column(name = "document_fee", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal documentFee;
+
+    @Column(name = "handling_fee", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal handlingFee;
+
+    @Column(name = "customs_clearance_fee", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal customsClearanceFee;
+
+    @Column(name = "domestic_trucking", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal domesticTrucking;
+
+    // 외화 (USD)
+    @Column(name = "ams_fee", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal amsFee;
+
+    @Column(name = "inspection_fee", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal inspectionFee;
+
+    @Column(name = "oversea_trucking", nullable = false, precision = PRECISION, scale = SCALE)
+    private BigDecimal overseaTrucking;
+
+    @PrePersist
+    public void assignRateKey() {
+        this.rateKey = TariffKey.fromEntity(this).rateKey();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.linkcargo.domain.tariff;
+
+import com.example.linkcargo.domain.tariff.dto.request.TariffPublishRequest;
+import com.example.linkcargo.domain.tariff.dto.response.TariffTableResponse;
+import com.example.linkcargo.global.response.ApiResponse;
+import com.example.linkcargo.global.security.CustomUserDetail;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "10. Tariff", description = "요율표 관련 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/tariffs")
+public class TariffController {
+
+    private final TariffService tariffService;
+
+    @Operation(summary = "요율표 배포", description = "새 버전의 요율표를 배포합니다. 기존 버전을 통째로 대체하며 재시작 없이 즉시 비용 계산에 반영됩니다."
+        + " TariffPublishRequest 사용")
+    @PostMapping("")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공, 배포된 버전 반환"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "TARIFF401", description = "같은 조건의 요율이 중복되었습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "TARIFF402", description = "요율표 배포에 실패하였습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    public ApiResponse<Long> publishTariffs(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @Valid @RequestBody TariffPublishRequest request
+    ) {
+        return ApiResponse.onSuccess(tariffService.publish(request));
+    }
+
+    @Operation(summary = "현재 요율표 조회", description = "비용 계산에 사용 중인 요율표를 조회합니다. TariffTableResponse 사용")
+    @GetMapping("")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+    })
+    public ApiResponse<TariffTableResponse> getCurrentTariffs(@AuthenticationPrincipal CustomUserDetail userDetail) {
+        return ApiResponse.onSuccess(TariffTableResponse.fromEntity(tariffService.getCurrentTable()));
+    }
+}
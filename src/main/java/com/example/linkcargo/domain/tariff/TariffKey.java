@@ -0,0 +1,24 @@
+package com.example.linkcargo.domain.tariff;
+
+/**
+ * 요율 조회 키. null 인 항목은 "모든 값" 을 의미한다.
+ */
+public record TariffKey(
+    Long exportPortId,
+    Long importPortId,
+    Long forwarderId
+) {
+
+    public static TariffKey fromEntity(Tariff tariff) {
+        return new TariffKey(tariff.getExportPortId(), tariff.getImportPortId(), tariff.getForwarderId());
+    }
+
+    // 버전 내 중복 확인용 문자열 (예: 1:2:*)
+    public String rateKey() {
+        return valueOf(exportPortId) + ":" + valueOf(importPortId) + ":" + valueOf(forwarderId);
+    }
+
+    private static String valueOf(Long id) {
+        return id != null ? String.valueOf(id) : "*";
+    }
+}
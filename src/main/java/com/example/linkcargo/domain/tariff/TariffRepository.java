@@ -0,0 +1,14 @@
+package com.example.linkcargo.domain.tariff;
+
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TariffRepository extends JpaRepository<Tariff, Long> {
+
+    @Query("SELECT MAX(t.version) FROM Tariff t")
+    Optional<Long> findLatestVersion();
+
+    List<Tariff> findAllByVersion(Long version);
+}
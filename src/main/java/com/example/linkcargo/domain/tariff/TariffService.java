@@ -0,0 +1,114 @@
+package com.example.linkcargo.domain.tariff;
+
+import com.example.linkcargo.domain.tariff.dto.request.TariffPublishRequest;
+import com.example.linkcargo.domain.tariff.dto.request.TariffRequest;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.TariffHandler;
+import jakarta.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 요율표 관리
+ * <p>
+ * 최신 버전의 요율표를 메모리에 불변 객체로 들고 있고, 비용 계산 시에는 DB 조회 없이 {@link #findRateCard} 로 조회한다. 새 버전이
+ * 배포되면 커밋 이후 참조만 원자적으로 교체하며, 다른 인스턴스에서 배포된 버전은 주기적으로 확인해 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TariffService {
+
+    private final TariffRepository tariffRepository;
+    private final TariffVersionSequenceRepository tariffVersionSequenceRepository;
+    private final EntityManager entityManager;
+
+    private final AtomicReference<TariffTable> currentTable = new AtomicReference<>(TariffTable.EMPTY);
+
+    public TariffTable getCurrentTable() {
+        return currentTable.get();
+    }
+
+    public RateCard findRateCard(Long exportPortId, Long importPortId, Long forwarderId) {
+        return currentTable.get().find(exportPortId, importPortId, forwarderId);
+    }
+
+    @Transactional
+    public Long publish(TariffPublishRequest request) {
+        List<TariffRequest> tariffRequests = request.tariffs();
+
+        // 같은 조건의 요율이 둘 이상이면 조회 결과가 모호해진다
+        Set<TariffKey> keys = new HashSet<>();
+        for (TariffRequest tariffRequest : tariffRequests) {
+            TariffKey key = new TariffKey(tariffRequest.exportPortId(), tariffRequest.importPortId(),
+                tariffRequest.forwarderId());
+            if (!keys.add(key)) {
+                throw new TariffHandler(ErrorStatus.TARIFF_DUPLICATE);
+            }
+        }
+
+        Long version;
+        List<Tariff> tariffs;
+        try {
+            version = nextVersion();
+            tariffRepository.saveAllAndFlush(tariffRequests.stream()
+                .map(tariffRequest -> tariffRequest.toEntity(version))
+                .toList());
+            // 다른 인스턴스와 같은 값(DB 컬럼 자릿수)으로 요율표를 만들도록 저장한 항목을 DB 에서 다시 읽는다
+            entityManager.clear();
+            tariffs = tariffRepository.findAllByVersion(version);
+        } catch (Exception e) {
+            log.warn("요율표 배포에 실패했습니다. {}", e.getMessage());
+            throw new TariffHandler(ErrorStatus.TARIFF_PUBLISH_FAIL);
+        }
+
+        TariffTable publishedTable = TariffTable.of(version, tariffs);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                swap(publishedTable);
+            }
+        });
+        return version;
+    }
+
+    // 버전 발급 행을 잠그고 다음 버전 발급 (행이 없으면 현재 최신 버전 다음부터 시작)
+    private Long nextVersion() {
+        TariffVersionSequence sequence = tariffVersionSequenceRepository.findForUpdate(TariffVersionSequence.ID)
+            .orElseGet(() -> tariffVersionSequenceRepository.saveAndFlush(
+                TariffVersionSequence.startingAfter(tariffRepository.findLatestVersion().orElse(0L))));
+        return sequence.next();
+    }
+
+    // 시작 시 1회, 이후 주기적으로 최신 버전 확인
+    @Scheduled(fixedDelayString = "${tariff.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            Long latestVersion = tariffRepository.findLatestVersion().orElse(0L);
+            if (latestVersion > currentTable.get().getVersion()) {
+                swap(TariffTable.of(latestVersion, tariffRepository.findAllByVersion(latestVersion)));
+            }
+        } catch (RuntimeException e) {
+            // 조회에 실패해도 현재 요율표로 계속 계산한다
+            log.error("요율표를 다시 불러오지 못했습니다.", e);
+        }
+    }
+
+    private void swap(TariffTable table) {
+        TariffTable applied = currentTable.updateAndGet(
+            current -> table.getVersion() > current.getVersion() ? table : current);
+        if (applied == table) {
+            log.info("요율표 버전 {} 적용 ({}건)", table.getVersion(), table.getRateCards().size());
+        }
+    }
+}
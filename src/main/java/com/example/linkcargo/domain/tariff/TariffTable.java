@@ -0,0 +1,74 @@
+package com.example.linkcargo.domain.tariff;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 버전의 요율표 (불변). 생성 후 변경되지 않으므로 여러 스레드에서 잠금 없이 조회할 수 있다.
+ * <p>
+ * 조회 순서: 항구 쌍 + 포워더 -> 항구 쌍 -> 포워더 -> 전체 기본 요율 -> {@link RateCard#DEFAULT}
+ */
+@Slf4j
+public final class TariffTable {
+
+    public static final TariffTable EMPTY = new TariffTable(0L, Map.of());
+
+    private static final Comparator<Tariff> LATEST_FIRST = Comparator.comparing(Tariff::getId,
+        Comparator.nullsLast(Comparator.reverseOrder()));
+
+    @Getter
+    private final Long version;
+    @Getter
+    private final Map<TariffKey, RateCard> rateCards;
+    private final RateCard defaultRateCard;
+
+    public TariffTable(Long version, Map<TariffKey, RateCard> rateCards) {
+        this.version = version;
+        this.rateCards = Map.copyOf(rateCards);
+        this.defaultRateCard = this.rateCards.getOrDefault(new TariffKey(null, null, null), RateCard.DEFAULT);
+    }
+
+    /**
+     * 한 버전의 항목으로 요율표 생성. 같은 조건의 항목이 둘 이상이면(unique 제약 도입 이전 데이터) 나중에 저장된 항목(id 가 큰 쪽)을
+     * 사용하고 오류 로그를 남긴다.
+     */
+    public static TariffTable of(Long version, List<Tariff> tariffs) {
+        Map<TariffKey, Tariff> latestTariffs = new LinkedHashMap<>();
+        for (Tariff tariff : tariffs) {
+            latestTariffs.merge(TariffKey.fromEntity(tariff), tariff, (current, candidate) -> {
+                log.error("요율표 버전 {} 에 같은 조건의 요율이 중복되어 있습니다. key={}, ids=[{}, {}]", version,
+                    TariffKey.fromEntity(candidate), current.getId(), candidate.getId());
+                return LATEST_FIRST.compare(current, candidate) <= 0 ? current : candidate;
+            });
+        }
+
+        Map<TariffKey, RateCard> rateCards = new LinkedHashMap<>();
+        latestTariffs.forEach((key, tariff) -> rateCards.put(key, RateCard.fromEntity(tariff)));
+        return new TariffTable(version, rateCards);
+    }
+
+    public RateCard find(Long exportPortId, Long importPortId, Long forwarderId) {
+        if (rateCards.isEmpty()) {
+            return defaultRateCard;
+        }
+        RateCard rateCard = null;
+        if (forwarderId != null) {
+            rateCard = rateCards.get(new TariffKey(exportPortId, importPortId, forwarderId));
+        }
+        if (rateCard == null && exportPortId != null && importPortId != null) {
+            rateCard = rateCards.get(new TariffKey(exportPortId, importPortId, null));
+        }
+        if (rateCard == null && forwarderId != null) {
+            rateCard = rateCards.get(new TariffKey(null, null, forwarderId));
+        }
+        return rateCard != null ? rateCard : defaultRateCard;
+    }
+
+    public RateCard getDefaultRateCard() {
+        return defaultRateCard;
+    }
+}
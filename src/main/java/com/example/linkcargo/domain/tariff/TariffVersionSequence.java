@@ -0,0 +1,41 @@
+package com.example.linkcargo.domain.tariff;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 요율표 버전 발급용 단일 행. 배포 시 이 행을 잠근(SELECT ... FOR UPDATE) 상태에서 다음 버전을 발급하므로, 동시에 배포해도 같은
+ * 버전이 두 번 발급되지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tariff_version_sequences")
+public class TariffVersionSequence {
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_version", nullable = false)
+    private Long lastVersion;
+
+    // 이미 배포된 버전 다음부터 발급
+    public static TariffVersionSequence startingAfter(Long latestVersion) {
+        TariffVersionSequence sequence = new TariffVersionSequence();
+        sequence.id = ID;
+        sequence.lastVersion = latestVersion;
+        return sequence;
+    }
+
+    public Long next() {
+        this.lastVersion = this.lastVersion + 1;
+        return this.lastVersion;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.linkcargo.domain.tariff;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TariffVersionSequenceRepository extends JpaRepository<TariffVersionSequence, Long> {
+
+    // 배포 트랜잭션이 끝날 때까지 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TariffVersionSequence s WHERE s.id = :id")
+    Optional<TariffVersionSequence> findForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,12 @@
+package com.example.linkcargo.domain.tariff.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record TariffPublishRequest(
+    @NotEmpty(message = "tariffs is mandatory")
+    List<@Valid TariffRequest> tariffs // 새 버전의 요율 목록 (이전 버전을 통째로 대체)
+) {
+
+}
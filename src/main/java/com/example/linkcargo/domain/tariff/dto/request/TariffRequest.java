@@ -0,0 +1,73 @@
+package com.example.linkcargo.domain.tariff.dto.request;
+
+import com.example.linkcargo.domain.tariff.Tariff;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+
+public record TariffRequest(
+    Long exportPortId, // 출발항 ID (비우면 모든 출발항)
+    Long importPortId, // 도착항 ID (비우면 모든 도착항)
+    Long forwarderId, // 포워더 ID (비우면 모든 포워더)
+
+    @NotNull(message = "THC is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal thcPerCbm, // THC (원/CBM)
+
+    @NotNull(message = "CFS charge is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal cfsChargePerCbm, // CFS (원/CBM)
+
+    @NotNull(message = "Wharfage fee is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal wharfageFeePerCbm, // WHARFAGE (원/CBM)
+
+    @NotNull(message = "Document fee is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal documentFee, // DOCUMENT FEE (원, 부가세 포함)
+
+    @NotNull(message = "Handling fee is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal handlingFee, // H/C (원, 부가세 포함)
+
+    @NotNull(message = "Customs clearance fee is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal customsClearanceFee, // 통관 수수료 (원, 부가세 포함)
+
+    @NotNull(message = "Domestic trucking is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal domesticTrucking, // 국내 운송료 (원, 부가세 포함)
+
+    @NotNull(message = "AMS fee is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal amsFee, // AMS (USD)
+
+    @NotNull(message = "Inspection fee is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal inspectionFee, // 수입 통관 재비용 (USD)
+
+    @NotNull(message = "Oversea trucking is mandatory") @PositiveOrZero
+    @Digits(integer = Tariff.PRECISION - Tariff.SCALE, fraction = Tariff.SCALE, message = "Fee must have at most 2 decimal places")
+    BigDecimal overseaTrucking // 내륙 운송료 (USD)
+) {
+
+    public Tariff toEntity(Long version) {
+        return Tariff.builder()
+            .version(version)
+            .exportPortId(this.exportPortId)
+            .importPortId(this.importPortId)
+            .forwarderId(this.forwarderId)
+            .thcPerCbm(this.thcPerCbm)
+            .cfsChargePerCbm(this.cfsChargePerCbm)
+            .wharfageFeePerCbm(this.wharfageFeePerCbm)
+            .documentFee(this.documentFee)
+            .handlingFee(this.handlingFee)
+            .customsClearanceFee(this.customsClearanceFee)
+            .domesticTrucking(this.domesticTrucking)
+            .amsFee(this.amsFee)
+            .inspectionFee(this.inspectionFee)
+            .overseaTrucking(this.overseaTrucking)
+            .build();
+    }
+}
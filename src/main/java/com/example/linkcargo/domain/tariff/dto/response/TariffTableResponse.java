@@ -0,0 +1,44 @@
+package com.example.linkcargo.domain.tariff.dto.response;
+
+import com.example.linkcargo.domain.tariff.RateCard;
+import com.example.linkcargo.domain.tariff.TariffKey;
+import com.example.linkcargo.domain.tariff.TariffTable;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+
+@Builder
+public record TariffTableResponse(
+    Long version, // 요율표 버전 (0 이면 기본 요율만 사용 중)
+    RateCard defaultRateCard, // 조건에 맞는 요율이 없을 때 사용하는 요율
+    List<TariffEntry> tariffs
+) {
+
+    @Builder
+    public record TariffEntry(
+        Long exportPortId,
+        Long importPortId,
+        Long forwarderId,
+        RateCard rateCard
+    ) {
+
+        public static TariffEntry fromEntity(Map.Entry<TariffKey, RateCard> entry) {
+            return TariffEntry.builder()
+                .exportPortId(entry.getKey().exportPortId())
+                .importPortId(entry.getKey().importPortId())
+                .forwarderId(entry.getKey().forwarderId())
+                .rateCard(entry.getValue())
+                .build();
+        }
+    }
+
+    public static TariffTableResponse fromEntity(TariffTable tariffTable) {
+        return TariffTableResponse.builder()
+            .version(tariffTable.getVersion())
+            .defaultRateCard(tariffTable.getDefaultRateCard())
+            .tariffs(tariffTable.getRateCards().entrySet().stream()
+                .map(TariffEntry::fromEntity)
+                .toList())
+            .build();
+    }
+}
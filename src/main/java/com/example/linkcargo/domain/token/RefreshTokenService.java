@@ -5,6 +5,7 @@ import static java.util.Objects.isNull;
 import com.example.linkcargo.domain.token.dto.request.UserLoginRequest;
 import com.example.linkcargo.domain.token.dto.request.UserRegisterRequest;
 import com.example.linkcargo.domain.token.dto.response.TokenResponse;
+import com.example.linkcargo.domain.user.Role;
 import com.example.linkcargo.domain.user.User;
 import com.example.linkcargo.domain.user.UserRepository;
 import com.example.linkcargo.global.jwt.JwtProvider;
@@ -38,6 +39,7 @@ public class RefreshTokenService {
      * 회원가입
      */
     public User join(UserRegisterRequest userRegisterRequest) {
+        validateRole(userRegisterRequest.role());
         validateEmail(userRegisterRequest.email());
         validateBusinessNumber(userRegisterRequest.businessNumber());
 
@@ -133,6 +135,15 @@ public class RefreshTokenService {
         }
     }
 
+    /**
+     * 가입으로 선택할 수 있는 역할인지 검사 (운영자는 직접 부여)
+     */
+    private void validateRole(Role role) {
+        if (role == Role.OPERATOR) {
+            throw new UsersHandler(ErrorStatus.USER_ROLE_NOT_ALLOWED);
+        }
+    }
+
     /**
      * 사업자 번호 중복되는지 검사
      */
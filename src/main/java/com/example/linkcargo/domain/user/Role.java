@@ -9,4 +9,5 @@ public enum Role {
     CONSIGNOR, // 화주
     FORWARDER, // 포워더
     OTHER, // 화주, 포워더 둘다 해당
+    OPERATOR, // 운영자 (회원 가입으로는 선택할 수 없음)
 }
@@ -9,6 +9,7 @@ import com.example.linkcargo.global.entity.JpaBaseEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -39,6 +40,7 @@ import org.hibernate.annotations.Where;
 @Where(clause = "status != 'DELETED'")
 @SQLDelete(sql = "UPDATE linkcargo.users SET status = 'DELETED' WHERE id = ?")
 @Table(name = "users")
+@EntityListeners(UserVersionListener.class)
 public class User extends JpaBaseEntity {
 
     @Id
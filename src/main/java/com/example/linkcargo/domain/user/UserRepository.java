@@ -1,7 +1,11 @@
 package com.example.linkcargo.domain.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -10,4 +14,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByBusinessNumber(String email);
 
     Optional<User> findByEmail(String email);
+
+    // 포워딩 업체를 함께 조회
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.forwarding WHERE u.id IN :ids")
+    List<User> findAllWithForwardingByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,27 @@
+package com.example.linkcargo.domain.user;
+
+import com.example.linkcargo.global.etag.DataResource;
+import com.example.linkcargo.global.etag.DataVersionRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 저장, 수정, 삭제되면 사용자 데이터 버전을 올린다. 포워더 정보(이름, 회사, 연락처)나 채팅 상대 이름을 담는 응답이 이 버전을
+ * ETag 에 포함한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserVersionListener {
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        dataVersionRegistry.bump(DataResource.USER);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.linkcargo.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 Mongo 문서에 선언된 인덱스(@Indexed, @CompoundIndex)를 확인한다.
+ * <p>
+ * CREATE 모드는 없는 인덱스를 만들고, VALIDATE 모드는 없는 인덱스가 있으면 시작을 중단한다. 이름이 달라도 키 구성(순서, 방향)과
+ * unique 여부가 같은 인덱스가 있으면 있는 것으로 본다. 같은 이름의 인덱스가 선언과 다르면 CREATE 모드는 지우고 다시 만들고,
+ * VALIDATE 모드는 시작을 중단한다.
+ */
+@Slf4j
+@Component
+public class MongoIndexVerifier {
+
+    public enum Mode {
+        CREATE,
+        VALIDATE
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final Mode mode;
+
+    public MongoIndexVerifier(
+        MongoTemplate mongoTemplate,
+        @Value("${mongo.index.mode:CREATE}") Mode mode
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mode = mode;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext
+            = mongoTemplate.getConverter().getMappingContext();
+        IndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        List<String> missingIndexes = new ArrayList<>();
+        List<String> mismatchedIndexes = new ArrayList<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            IndexOperations indexOperations = mongoTemplate.indexOps(entity.getType());
+            List<IndexInfo> existingIndexes = indexOperations.getIndexInfo();
+
+            indexResolver.resolveIndexFor(entity.getTypeInformation()).forEach(definition -> {
+                String name = definition.getIndexOptions().getString("name");
+                Optional<IndexInfo> sameName = existingIndexes.stream()
+                    .filter(indexInfo -> indexInfo.getName().equals(name))
+                    .findFirst();
+
+                if (sameName.isPresent()) {
+                    if (matches(sameName.get(), definition)) {
+                        return;
+                    }
+                    if (mode == Mode.VALIDATE) {
+                        mismatchedIndexes.add(entity.getCollection() + "." + name + " " + describe(sameName.get())
+                            + " -> " + definition.getIndexKeys().toJson());
+                        return;
+                    }
+                    indexOperations.dropIndex(name);
+                    indexOperations.ensureIndex(definition);
+                    log.warn("선언과 다른 Mongo 인덱스를 다시 만들었습니다. collection={}, index={}, before={}, after={}",
+                        entity.getCollection(), name, describe(sameName.get()), definition.getIndexKeys().toJson());
+                    return;
+                }
+
+                if (existingIndexes.stream().anyMatch(indexInfo -> matches(indexInfo, definition))) {
+                    return;
+                }
+                if (mode == Mode.VALIDATE) {
+                    missingIndexes.add(entity.getCollection() + "." + name);
+                    return;
+                }
+                indexOperations.ensureIndex(definition);
+                log.info("Mongo 인덱스를 생성했습니다. collection={}, index={}", entity.getCollection(), name);
+            });
+        }
+
+        if (!missingIndexes.isEmpty() || !mismatchedIndexes.isEmpty()) {
+            throw new IllegalStateException("선언된 Mongo 인덱스가 없거나 다릅니다. missing=" + missingIndexes
+                + ", mismatched=" + mismatchedIndexes);
+        }
+    }
+
+    // 키 순서와 방향, unique 여부가 모두 같은지
+    private boolean matches(IndexInfo indexInfo, IndexDefinition definition) {
+        boolean unique = Boolean.TRUE.equals(definition.getIndexOptions().get("unique"));
+        return new ArrayList<>(keysOf(indexInfo).entrySet()).equals(
+            new ArrayList<>(definition.getIndexKeys().entrySet()))
+            && indexInfo.isUnique() == unique;
+    }
+
+    private String describe(IndexInfo indexInfo) {
+        return keysOf(indexInfo).toJson() + (indexInfo.isUnique() ? " unique" : "");
+    }
+
+    private Document keysOf(IndexInfo indexInfo) {
+        Document keys = new Document();
+        for (IndexField indexField : indexInfo.getIndexFields()) {
+            keys.append(indexField.getKey(), indexField.getDirection() == Sort.Direction.DESC ? -1 : 1);
+        }
+        return keys;
+    }
+}
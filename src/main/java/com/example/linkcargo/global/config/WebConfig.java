@@ -1,11 +1,16 @@
 package com.example.linkcargo.global.config;
 
+import com.example.linkcargo.domain.quotation.QuotationCostMetrics;
+import com.example.linkcargo.domain.quotation.QuotationCostTimingInterceptor;
+import com.example.linkcargo.global.etag.ConditionalGetInterceptor;
 import com.example.linkcargo.global.resolver.JwtAuthorizationArgumentResolver;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -13,18 +18,27 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final JwtAuthorizationArgumentResolver jwtAuthorizationArgumentResolver;
+    private final QuotationCostTimingInterceptor quotationCostTimingInterceptor;
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(jwtAuthorizationArgumentResolver);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(quotationCostTimingInterceptor);
+        registry.addInterceptor(conditionalGetInterceptor);
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
             .allowedOriginPatterns("*") // 허용할 도메인 (모든 도메인 허용: "*")
             .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE") // 허용할 HTTP 메서드
             .allowedHeaders("*") // 허용할 헤더
+            .exposedHeaders(QuotationCostMetrics.SERVER_TIMING_HEADER, HttpHeaders.ETAG) // 단계별 측정 디버그 헤더, 조건부 요청용 ETag
             .allowCredentials(true); // 인증 정보 허용 여부
     }
 }
@@ -0,0 +1,25 @@
+package com.example.linkcargo.global.etag;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET 적용 대상.
+ * <p>
+ * 응답이 의존하는 데이터의 버전으로 ETag 를 만들고, If-None-Match 가 같으면 컨트롤러를 실행하지 않고 304 를 돌려준다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    // 응답이 의존하는 데이터
+    DataResource[] resources();
+
+    // Cache-Control max-age (초). 0 이면 매번 재검증한다
+    long maxAge() default 0;
+
+    // 오늘 날짜 기준으로 계산되는 응답이면 날짜가 바뀔 때 ETag 도 바뀐다
+    boolean daily() default false;
+}
@@ -0,0 +1,76 @@
+package com.example.linkcargo.global.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link ConditionalGet} 이 붙은 GET 요청의 ETag 를 컨트롤러 실행 전에 계산한다.
+ * <p>
+ * If-None-Match 가 일치하면 304 로 끝내고, 아니면 ETag 를 요청 속성에 담아 {@link ConditionalGetResponseAdvice} 가 성공 응답에만
+ * 붙이도록 한다. 버전은 서비스 실행 전에 읽으므로 실행 중에 쓰기가 커밋되면 다음 요청에서 ETag 가 달라진다. 버전을 읽지 못하면
+ * ETag 없이 그대로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    static final String ETAG_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".etag";
+    static final String CACHE_CONTROL_ATTRIBUTE = ConditionalGetInterceptor.class.getName() + ".cacheControl";
+
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        Optional<DataVersionRegistry.Snapshot> snapshot = dataVersionRegistry.snapshot();
+        if (snapshot.isEmpty()) {
+            return true;
+        }
+        String etag = createEtag(request, conditionalGet, snapshot.get());
+        String cacheControl = conditionalGet.maxAge() > 0
+            ? "private, max-age=" + conditionalGet.maxAge()
+            : "private, no-cache";
+
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            response.setHeader("Cache-Control", cacheControl);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        request.setAttribute(CACHE_CONTROL_ATTRIBUTE, cacheControl);
+        return true;
+    }
+
+    // epoch, 데이터 버전, (날짜), 사용자, 요청 URI 와 쿼리를 합쳐 강한 ETag 생성
+    private String createEtag(HttpServletRequest request, ConditionalGet conditionalGet,
+        DataVersionRegistry.Snapshot snapshot) {
+        StringBuilder key = new StringBuilder(snapshot.epoch());
+        for (DataResource resource : conditionalGet.resources()) {
+            key.append('|').append(resource).append(':').append(snapshot.version(resource));
+        }
+        if (conditionalGet.daily()) {
+            key.append('|').append(LocalDate.now());
+        }
+        key.append('|').append(request.getRemoteUser())
+            .append('|').append(request.getRequestURI())
+            .append('?').append(request.getQueryString());
+
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.linkcargo.global.etag;
+
+import com.example.linkcargo.global.response.ApiResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ConditionalGetInterceptor} 가 계산한 ETag 를 성공 응답에만 붙인다. 실패 응답이 캐시되어 304 로 재사용되지 않게 한다.
+ */
+@RestControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+        Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+        ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+            || !(body instanceof ApiResponse<?> apiResponse)
+            || !Boolean.TRUE.equals(apiResponse.getIsSuccess())) {
+            return body;
+        }
+
+        Object etag = servletRequest.getServletRequest().getAttribute(ConditionalGetInterceptor.ETAG_ATTRIBUTE);
+        Object cacheControl = servletRequest.getServletRequest()
+            .getAttribute(ConditionalGetInterceptor.CACHE_CONTROL_ATTRIBUTE);
+        if (etag != null) {
+            response.getHeaders().setETag((String) etag);
+            response.getHeaders().set(HttpHeaders.CACHE_CONTROL, (String) cacheControl);
+        }
+        return body;
+    }
+}
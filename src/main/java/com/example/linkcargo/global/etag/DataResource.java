@@ -0,0 +1,15 @@
+package com.example.linkcargo.global.etag;
+
+/**
+ * 버전을 관리하는 데이터 종류. 쓰기가 커밋되면 해당 종류의 버전이 올라간다.
+ */
+public enum DataResource {
+    PORT,
+    SCHEDULE,
+    QUOTATION,
+    PREDICTION,
+    NEWS,
+    CHAT,
+    USER,
+    FORWARDING
+}
@@ -0,0 +1,113 @@
+package com.example.linkcargo.global.etag;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 데이터 종류별 버전 카운터.
+ * <p>
+ * 쓰기 경로에서 bump 를 호출하면 커밋 이후 버전이 올라간다. 카운터는 Mongo 문서 하나(data_versions)에 모든 인스턴스가 함께
+ * 쓰므로, 한 인스턴스에서 커밋된 쓰기는 다른 인스턴스의 ETag 도 바꾼다. epoch 는 문서를 처음 만들 때 정해지며, 문서가 지워져 카운터가
+ * 0 부터 다시 시작해도 이전 ETag 와 겹치지 않게 한다.
+ */
+@Slf4j
+@Component
+public class DataVersionRegistry {
+
+    private static final String COLLECTION = "data_versions";
+    private static final String DOCUMENT_ID = "current";
+    private static final String EPOCH = "epoch";
+
+    private final MongoTemplate mongoTemplate;
+
+    public DataVersionRegistry(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 현재 epoch 와 모든 종류의 버전 (한 번의 조회). 조회에 실패하면 빈 값
+     */
+    public Optional<Snapshot> snapshot() {
+        try {
+            Document document = mongoTemplate.findOne(currentQuery(), Document.class, COLLECTION);
+            if (document == null) {
+                document = initialize();
+            }
+            Map<DataResource, Long> versions = new EnumMap<>(DataResource.class);
+            for (DataResource resource : DataResource.values()) {
+                Number version = document.get(resource.name(), Number.class);
+                versions.put(resource, version != null ? version.longValue() : 0L);
+            }
+            return Optional.of(new Snapshot(document.getString(EPOCH), versions));
+        } catch (RuntimeException e) {
+            log.warn("데이터 버전을 조회하지 못했습니다. {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 이후, 아니면 바로 올린다
+    public void bump(DataResource resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(resource);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment(resource);
+            }
+        });
+    }
+
+    private void increment(DataResource resource) {
+        Update update = new Update()
+            .inc(resource.name(), 1)
+            .setOnInsert(EPOCH, UUID.randomUUID().toString());
+        try {
+            upsert(update);
+        } catch (RuntimeException e) {
+            // 버전이 오르지 않으면 이 종류의 ETag 가 바뀌지 않으므로 에러로 남긴다
+            log.error("데이터 버전을 올리지 못했습니다. resource={}", resource, e);
+        }
+    }
+
+    private Document initialize() {
+        upsert(new Update().setOnInsert(EPOCH, UUID.randomUUID().toString()));
+        return mongoTemplate.findOne(currentQuery(), Document.class, COLLECTION);
+    }
+
+    // 여러 인스턴스가 동시에 처음 만들면 하나만 성공하므로 나머지는 다시 갱신한다
+    private void upsert(Update update) {
+        try {
+            mongoTemplate.upsert(currentQuery(), update, COLLECTION);
+        } catch (DuplicateKeyException e) {
+            mongoTemplate.upsert(currentQuery(), update, COLLECTION);
+        }
+    }
+
+    private Query currentQuery() {
+        return Query.query(Criteria.where("_id").is(DOCUMENT_ID));
+    }
+
+    public record Snapshot(
+        String epoch,
+        Map<DataResource, Long> versions
+    ) {
+
+        public long version(DataResource resource) {
+            return versions.getOrDefault(resource, 0L);
+        }
+    }
+}
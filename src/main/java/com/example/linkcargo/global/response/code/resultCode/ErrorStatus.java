@@ -20,6 +20,8 @@ public enum ErrorStatus implements BaseErrorCode {
     USER_EXISTS_BUSINESS_NUMBER(HttpStatus.BAD_REQUEST, "USER402", "중복된 사업자번호입니다."),
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "USER403", "해당 정보의 유저를 찾을 수 없습니다."),
     USER_PROFILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR,"USER404",  "프로필 업로드에 실패했습니다."),
+    USER_ROLE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "USER405", "회원 가입으로 선택할 수 없는 역할입니다."),
+    NOT_OPERATOR(HttpStatus.FORBIDDEN, "USER406", "운영자 역할이 아닙니다."),
 
     // JWT
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH401", "유효하지 않은 ACCESS 토큰입니다."),
@@ -32,6 +34,7 @@ public enum ErrorStatus implements BaseErrorCode {
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH408", "유효하지 않은 REFRESH 토큰입니다."),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.BAD_REQUEST, "AUTH409", "REFRESH 토큰이 존재하지 않습니다."),
     REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "AUTH410", "REFRESH 토큰이 만료되었습니다."),
+    LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "AUTH411", "로그인이 필요합니다."),
 
     // Cargo
     INVALID_CARGO_INPUT(HttpStatus.BAD_REQUEST, "CARGO401", "유효하지 않은 CARGO 입력 정보입니다."),
@@ -76,6 +79,23 @@ public enum ErrorStatus implements BaseErrorCode {
     QUOTATION_DUPLICATE(HttpStatus.BAD_REQUEST, "QUOTATION401","이미 동일한 견적서가 존재합니다."),
     QUOTATION_NOT_FOUND(HttpStatus.NOT_FOUND, "QUOTATION402", "견적서가 존재하지 않습니다."),
     QUOTATION_UPDATED_FAIL(HttpStatus.NOT_FOUND, "QUOTATION403","포워더 견적서 업데이트에 실패하였습니다"),
+    QUOTATION_PRICING_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "QUOTATION404", "견적서 계산 작업이 존재하지 않습니다."),
+    QUOTATION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "QUOTATION405", "유효하지 않은 견적서 이력 커서입니다."),
+    QUOTATION_REPRICING_RUN_NOT_FOUND(HttpStatus.NOT_FOUND, "QUOTATION406", "견적서 일괄 재계산 기록이 존재하지 않습니다."),
+    QUOTATION_INVALID_FREIGHT_COST(HttpStatus.BAD_REQUEST, "QUOTATION407", "운임 지수는 1 이상이어야 합니다."),
+
+    // Tariff
+    TARIFF_DUPLICATE(HttpStatus.BAD_REQUEST, "TARIFF401", "같은 조건의 요율이 중복되었습니다."),
+    TARIFF_PUBLISH_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "TARIFF402", "요율표 배포에 실패하였습니다."),
+
+    // Prediction
+    PREDICTION_NOT_FOUND(HttpStatus.NOT_FOUND, "PREDICTION401", "운임 예측 정보가 존재하지 않습니다."),
+
+    // Dashboard
+    DASHBOARD_SECTION_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "DASHBOARD401", "대시보드 항목 조회 시간이 초과되었습니다."),
+    DASHBOARD_SECTION_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "DASHBOARD402", "대시보드 항목 조회 요청이 많아 처리하지 못했습니다."),
+    DASHBOARD_TOO_MANY_SCENARIOS(HttpStatus.BAD_REQUEST, "DASHBOARD403", "추가 운임 지수는 20개까지 조회할 수 있습니다."),
+    DASHBOARD_INVALID_SCENARIO(HttpStatus.BAD_REQUEST, "DASHBOARD404", "운임 지수는 1 이상 100000 이하여야 합니다."),
 
     // CHAT
     CHAT_FILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "CHAT401","파일 업로드에 살패했습니다."),
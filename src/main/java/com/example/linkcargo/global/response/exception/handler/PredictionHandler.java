@@ -0,0 +1,11 @@
+package com.example.linkcargo.global.response.exception.handler;
+
+import com.example.linkcargo.global.response.code.BaseErrorCode;
+import com.example.linkcargo.global.response.exception.GeneralException;
+
+public class PredictionHandler extends GeneralException {
+
+    public PredictionHandler(BaseErrorCode errorCode) {
+        super(errorCode);
+    }
+}
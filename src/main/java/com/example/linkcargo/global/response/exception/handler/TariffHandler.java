@@ -0,0 +1,11 @@
+package com.example.linkcargo.global.response.exception.handler;
+
+import com.example.linkcargo.global.response.code.BaseErrorCode;
+import com.example.linkcargo.global.response.exception.GeneralException;
+
+public class TariffHandler extends GeneralException {
+
+    public TariffHandler(BaseErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.linkcargo.domain.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.linkcargo.domain.dashboard.dto.response.DashboardQuotationResponse;
+import com.example.linkcargo.domain.forwarding.Forwarding;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationRevisionAssembler;
+import com.example.linkcargo.domain.quotation.QuotationStatus;
+import com.example.linkcargo.domain.quotation.QuotationTotalCostMigration;
+import com.example.linkcargo.domain.schedule.Schedule;
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.example.linkcargo.domain.user.User;
+import com.example.linkcargo.domain.user.UserRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 총 비용 정렬($sort, $limit)을 실제 Mongo 에서 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CheapestQuotationServiceTest {
+
+    private static final String ORIGINAL_QUOTATION_ID = "original";
+    // 문자열로 정렬하면 "1000.25" < "120" < "25000" < "300" < "85" < "9.5"
+    private static final List<String> TOTAL_COSTS = List.of("1000.25", "85", "25000", "9.5", "300", "120");
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private CheapestQuotationService cheapestQuotationService;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "linkcargo-test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(Quotation.class);
+
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findAllWithPortsByIdIn(anyCollection()))
+            .thenReturn(List.of(Schedule.builder().id(1L).carrier("CARRIER").transitTime(14).build()));
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findAllWithForwardingByIdIn(anyCollection()))
+            .thenReturn(IntStream.range(0, TOTAL_COSTS.size()).mapToObj(CheapestQuotationServiceTest::forwarder).toList());
+
+        QuotationComparisonService quotationComparisonService = new QuotationComparisonService(null, null,
+            scheduleRepository, userRepository, new QuotationRevisionAssembler(null), mongoTemplate);
+        cheapestQuotationService = new CheapestQuotationService(mongoTemplate, scheduleRepository,
+            quotationComparisonService, 20);
+    }
+
+    @Test
+    @DisplayName("자릿수가 다른 총 비용도 숫자 순서로 정렬해 개수만큼 가져온다")
+    void sortsTotalCostNumerically() {
+        IntStream.range(0, TOTAL_COSTS.size())
+            .forEach(index -> mongoTemplate.insert(bid(index, new BigDecimal(TOTAL_COSTS.get(index)))));
+
+        List<DashboardQuotationResponse> cheapest = cheapestQuotationService.getCheapestQuotations(
+            ORIGINAL_QUOTATION_ID, 3, null);
+
+        assertThat(cheapest).extracting(response -> response.totalCost().stripTrailingZeros().toPlainString())
+            .containsExactly("9.5", "85", "120");
+        assertThat(cheapestQuotationService.getTheCheapestQuotation(ORIGINAL_QUOTATION_ID).totalCost())
+            .isEqualByComparingTo("9.5");
+        assertThat(storedTotalCostTypes()).allMatch(Decimal128.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("문자열로 저장된 예전 총 비용은 변환 후 숫자 순서로 정렬된다")
+    void migratesStringTotalCost() {
+        IntStream.range(0, TOTAL_COSTS.size()).forEach(index -> {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(bid(index, BigDecimal.ZERO), document);
+            document.get("cost", Document.class).put("totalCost", TOTAL_COSTS.get(index));
+            mongoTemplate.getCollection("quotations").insertOne(document);
+        });
+
+        new QuotationTotalCostMigration(mongoTemplate).migrate();
+
+        assertThat(storedTotalCostTypes()).allMatch(Decimal128.class::isInstance);
+        assertThat(cheapestQuotationService.getCheapestQuotations(ORIGINAL_QUOTATION_ID, 2, null))
+            .extracting(response -> response.totalCost().stripTrailingZeros().toPlainString())
+            .containsExactly("9.5", "85");
+    }
+
+    private List<Object> storedTotalCostTypes() {
+        return mongoTemplate.getCollection("quotations").find().map(document -> document.get("cost", Document.class)
+            .get("totalCost")).into(new ArrayList<>());
+    }
+
+    private static Quotation bid(int index, BigDecimal totalCost) {
+        Quotation.TEU teu = Quotation.TEU.builder().unit("CBM").LCL(BigDecimal.TEN).build();
+        return Quotation.builder()
+            .id("bid-" + index)
+            .forwarderId(String.valueOf(forwarderId(index)))
+            .originalQuotationId(ORIGINAL_QUOTATION_ID)
+            .quotationStatus(QuotationStatus.DETAIL_INFO)
+            .freight(Quotation.Freight.builder().scheduleId("1").build())
+            .cost(Quotation.Cost.builder()
+                .chargeExport(Quotation.ChargeExport.builder()
+                    .THC(teu)
+                    .HANDLING_FEE(teu)
+                    .CFS_CHARGE(teu)
+                    .LIFT_STATUS(teu)
+                    .CUSTOMS_CLEARANCE_FEE(teu)
+                    .TRUCKING(teu)
+                    .build())
+                .totalCost(totalCost)
+                .build())
+            .build();
+    }
+
+    private static User forwarder(int index) {
+        return User.builder()
+            .id(forwarderId(index))
+            .firstName("first-" + index)
+            .lastName("last-" + index)
+            .forwarding(Forwarding.builder().id((long) index).firmName("firm-" + index).build())
+            .build();
+    }
+
+    private static long forwarderId(int index) {
+        return 100L + index;
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.linkcargo.domain.quotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.tariff.RateCard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 고정소수점 커널과 BigDecimal 계산 경로의 결과(스케일 포함) 일치 검증
+ */
+class FixedPointCostKernelTest {
+
+    private static final List<String> INCOTERMS = List.of("CFR", "CIF", "DAP", "DDP");
+    private static final RateCard ZERO_RATE_CARD = RateCard.builder()
+        .thcPerCbm(BigDecimal.ZERO)
+        .cfsChargePerCbm(BigDecimal.ZERO)
+        .wharfageFeePerCbm(BigDecimal.ZERO)
+        .documentFee(BigDecimal.ZERO)
+        .handlingFee(BigDecimal.ZERO)
+        .customsClearanceFee(BigDecimal.ZERO)
+        .domesticTrucking(BigDecimal.ZERO)
+        .amsFee(BigDecimal.ZERO)
+        .inspectionFee(BigDecimal.ZERO)
+        .overseaTrucking(BigDecimal.ZERO)
+        .build();
+
+    private QuotationCalculationService quotationCalculationService;
+
+    @BeforeEach
+    void setUp() {
+        // 화물 목록을 받는 계산 경로는 리포지토리, 환율, 요율표를 사용하지 않는다
+        quotationCalculationService = new QuotationCalculationService(null, null, null, null, null, null,
+            new QuotationCostMetrics(new SimpleMeterRegistry(), false), null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CFR", "CIF", "DAP", "DDP"})
+    @DisplayName("기본 요율에서 무작위 화물 구성과 환율, 운임 지수의 결과가 같다")
+    void matchesBigDecimalPathWithDefaultRateCard(String incoterms) {
+        Random random = new Random(incoterms.hashCode());
+        int computed = 0;
+        for (int i = 0; i < 500; i++) {
+            List<Cargo> cargos = randomCargos(random, incoterms);
+            int exchangeRate = 900 + random.nextInt(700);
+            int freight = 1 + random.nextInt(200);
+
+            computed += assertSameResult(cargos, freight, exchangeRate, RateCard.DEFAULT) ? 1 : 0;
+        }
+        assertThat(computed).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("무작위 요율표에서도 결과가 같다")
+    void matchesBigDecimalPathWithRandomRateCards() {
+        Random random = new Random(20240601L);
+        int computed = 0;
+        for (int i = 0; i < 2000; i++) {
+            String incoterms = INCOTERMS.get(random.nextInt(INCOTERMS.size()));
+            List<Cargo> cargos = randomCargos(random, incoterms);
+            int exchangeRate = 900 + random.nextInt(700);
+            int freight = 1 + random.nextInt(200);
+
+            computed += assertSameResult(cargos, freight, exchangeRate, randomRateCard(random)) ? 1 : 0;
+        }
+        // 대부분의 입력은 고정소수점 커널로 계산되어야 한다
+        assertThat(computed).isGreaterThan(1900);
+    }
+
+    static Stream<Arguments> feeLines() {
+        return Stream.of(
+            Arguments.of("THC", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.thcPerCbm(new BigDecimal("6500.55"))),
+            Arguments.of("CFS", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.cfsChargePerCbm(new BigDecimal("6500"))),
+            Arguments.of("WHARFAGE", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.wharfageFeePerCbm(new BigDecimal("210.5"))),
+            Arguments.of("DOCUMENT FEE", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.documentFee(new BigDecimal("38500.01"))),
+            Arguments.of("H/C", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.handlingFee(new BigDecimal("33000"))),
+            Arguments.of("통관 수수료", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.customsClearanceFee(new BigDecimal("33000.5"))),
+            Arguments.of("국내 운송료", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.domesticTrucking(new BigDecimal("165000"))),
+            Arguments.of("AMS", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.amsFee(new BigDecimal("30.25"))),
+            Arguments.of("수입 통관 재비용", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.inspectionFee(new BigDecimal("250.123456789"))),
+            Arguments.of("내륙 운송료", (UnaryOperator<RateCard.RateCardBuilder>) b -> b.overseaTrucking(new BigDecimal("250.00")))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("feeLines")
+    @DisplayName("요율 항목 하나만 있을 때도 결과가 같다")
+    void matchesBigDecimalPathPerFeeLine(String feeLine, UnaryOperator<RateCard.RateCardBuilder> fee) {
+        RateCard rateCard = fee.apply(ZERO_RATE_CARD.toBuilder()).build();
+        Random random = new Random(feeLine.hashCode());
+        for (int i = 0; i < 200; i++) {
+            String incoterms = INCOTERMS.get(random.nextInt(INCOTERMS.size()));
+            assertSameResult(randomCargos(random, incoterms), 1 + random.nextInt(200), 900 + random.nextInt(700),
+                rateCard);
+        }
+    }
+
+    @Test
+    @DisplayName("허용 자릿수 경계의 입력은 고정소수점 커널로 계산한다")
+    void computesAtScaleBoundary() {
+        // 박스 치수 소수점 3자리, 물품 가액 소수점 4자리, 요율 소수점 2자리
+        List<Cargo> cargos = List.of(cargo("CIF", 120, 12, "0.123", "0.456", "0.789", "12345.6789"));
+        RateCard rateCard = RateCard.DEFAULT.toBuilder().thcPerCbm(new BigDecimal("6500.99")).build();
+
+        BigDecimal fixedPoint = FixedPointCostKernel.calculateTotalCost(cargos, 10, 1320, rateCard);
+
+        assertThat(fixedPoint).isEqualTo(quotationCalculationService.calculateTotalCost(cargos, 10, 1320, rateCard));
+    }
+
+    static Stream<Arguments> outOfRangeInputs() {
+        return Stream.of(
+            Arguments.of("박스 치수 소수점 4자리",
+                List.of(cargo("CIF", 120, 12, "0.1234", "0.456", "0.789", "10000")), RateCard.DEFAULT),
+            Arguments.of("물품 가액 소수점 5자리",
+                List.of(cargo("CIF", 120, 12, "0.123", "0.456", "0.789", "10000.12345")), RateCard.DEFAULT),
+            Arguments.of("국내 요율 소수점 3자리",
+                List.of(cargo("DDP", 120, 12, "0.123", "0.456", "0.789", "10000")),
+                RateCard.DEFAULT.toBuilder().documentFee(new BigDecimal("38500.001")).build()),
+            Arguments.of("long 범위 초과",
+                List.of(cargo("CIF", 2_000_000_000, 1, "999.999", "999.999", "999.999", "10000")), RateCard.DEFAULT)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("outOfRangeInputs")
+    @DisplayName("고정소수점 범위를 벗어난 입력은 ArithmeticException 을 던지고, 서비스는 BigDecimal 경로 결과를 돌려준다")
+    void fallsBackToBigDecimalPath(String description, List<Cargo> cargos, RateCard rateCard) {
+        assertThatThrownBy(() -> FixedPointCostKernel.calculateTotalCost(cargos, 10, 1320, rateCard))
+            .isInstanceOf(ArithmeticException.class);
+
+        BigDecimal expected = quotationCalculationService.calculateTotalCost(cargos, 10, 1320, rateCard,
+            CostCalculationKernel.BIG_DECIMAL);
+        assertThat(quotationCalculationService.calculateTotalCost(cargos, 10, 1320, rateCard,
+            CostCalculationKernel.FIXED_POINT)).isEqualTo(expected);
+    }
+
+    // 커널이 계산했으면 true, 범위를 벗어나 BigDecimal 경로로 넘겼으면 false
+    private boolean assertSameResult(List<Cargo> cargos, int freight, int exchangeRate, RateCard rateCard) {
+        BigDecimal expected = quotationCalculationService.calculateTotalCost(cargos, freight, exchangeRate, rateCard);
+        String description = String.format("cargos=%s, freight=%d, exchangeRate=%d, rateCard=%s", describe(cargos),
+            freight, exchangeRate, rateCard);
+
+        // 어느 경우든 서비스의 FIXED_POINT 결과는 BigDecimal 경로와 같아야 한다 (equals 는 스케일까지 비교)
+        assertThat(quotationCalculationService.calculateTotalCost(cargos, freight, exchangeRate, rateCard,
+            CostCalculationKernel.FIXED_POINT)).as(description).isEqualTo(expected);
+
+        BigDecimal actual;
+        try {
+            actual = FixedPointCostKernel.calculateTotalCost(cargos, freight, exchangeRate, rateCard);
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        assertThat(actual).as(description).isEqualTo(expected);
+        return true;
+    }
+
+    private static List<Cargo> randomCargos(Random random, String incoterms) {
+        int count = 1 + random.nextInt(5);
+        List<Cargo> cargos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int quantityPerBox = 1 + random.nextInt(50);
+            int totalQuantity = quantityPerBox * (1 + random.nextInt(300)) + random.nextInt(quantityPerBox);
+            // 박스 한 변 최대 1.5m, 물품 가액 최대 500만 원
+            cargos.add(cargo(incoterms, totalQuantity, quantityPerBox,
+                randomDecimal(random, 1.5, 3).toPlainString(),
+                randomDecimal(random, 1.5, 3).toPlainString(),
+                randomDecimal(random, 1.5, 3).toPlainString(),
+                randomDecimal(random, 5_000_000, 4).toPlainString()));
+        }
+        return cargos;
+    }
+
+    private static RateCard randomRateCard(Random random) {
+        return RateCard.builder()
+            .thcPerCbm(randomDecimal(random, 20_000, 2))
+            .cfsChargePerCbm(randomDecimal(random, 20_000, 2))
+            .wharfageFeePerCbm(randomDecimal(random, 1_000, 2))
+            .documentFee(randomDecimal(random, 100_000, 2))
+            .handlingFee(randomDecimal(random, 100_000, 2))
+            .customsClearanceFee(randomDecimal(random, 100_000, 2))
+            .domesticTrucking(randomDecimal(random, 500_000, 2))
+            .amsFee(randomDecimal(random, 100, 2))
+            .inspectionFee(randomDecimal(random, 1_000, 9))
+            .overseaTrucking(randomDecimal(random, 1_000, 9))
+            .build();
+    }
+
+    // (0, max] 범위에서 0 ~ maxScale 사이의 무작위 스케일을 가진 값 (스케일 차이에 따른 결과 스케일도 함께 검증)
+    private static BigDecimal randomDecimal(Random random, double max, int maxScale) {
+        int scale = random.nextInt(maxScale + 1);
+        long bound = (long) Math.max(1, max * Math.pow(10, scale));
+        return BigDecimal.valueOf(1 + (long) (random.nextDouble() * bound), scale);
+    }
+
+    private static Cargo cargo(String incoterms, int totalQuantity, int quantityPerBox, String width, String height,
+        String depth, String value) {
+        return Cargo.builder()
+            .id("cargo")
+            .incoterms(incoterms)
+            .cargoInfo(Cargo.CargoInfo.builder()
+                .totalQuantity(totalQuantity)
+                .quantityPerBox(quantityPerBox)
+                .boxSize(Cargo.BoxSize.builder()
+                    .width(new BigDecimal(width))
+                    .height(new BigDecimal(height))
+                    .depth(new BigDecimal(depth))
+                    .build())
+                .value(new BigDecimal(value))
+                .build())
+            .build();
+    }
+
+    private static String describe(List<Cargo> cargos) {
+        return cargos.stream()
+            .map(cargo -> {
+                Cargo.CargoInfo info = cargo.getCargoInfo();
+                return String.format("[%s %d/%d %sx%sx%s value=%s]", cargo.getIncoterms(), info.getTotalQuantity(),
+                    info.getQuantityPerBox(), info.getBoxSize().getWidth(), info.getBoxSize().getHeight(),
+                    info.getBoxSize().getDepth(), info.getValue());
+            })
+            .toList()
+            .toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.linkcargo.domain.quotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuotationCostMetricsTest {
+
+    private final Locale defaultLocale = Locale.getDefault();
+    private final QuotationCostMetrics quotationCostMetrics = new QuotationCostMetrics(new SimpleMeterRegistry(), true);
+
+    @AfterEach
+    void tearDown() {
+        quotationCostMetrics.clearBreakdown();
+        Locale.setDefault(defaultLocale);
+    }
+
+    @Test
+    @DisplayName("소수점에 쉼표를 쓰는 기본 로케일에서도 Server-Timing 값은 점으로 표기한다")
+    void formatsDurationIndependentOfDefaultLocale() {
+        Locale.setDefault(Locale.GERMANY);
+        quotationCostMetrics.startBreakdown();
+
+        quotationCostMetrics.record(QuotationCostStage.CARGO_LOAD, () -> null);
+
+        assertThat(quotationCostMetrics.breakdownHeaderValue()).matches("cargo_load;dur=\\d+\\.\\d{3}");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.linkcargo.domain.quotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.QuotationHandler;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class QuotationHistoryCursorTest {
+
+    private static final String ID = "665f1c2ab3e4d5f6a7b8c9d0";
+
+    @Test
+    @DisplayName("생성일과 id 를 URL 에 그대로 쓸 수 있는 문자열로 인코딩하고 다시 읽는다")
+    void roundTripsCreatedAtAndId() {
+        QuotationHistoryCursor cursor = new QuotationHistoryCursor(LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_000_000), ID);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+        assertThat(QuotationHistoryCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("생성일이 없는 견적서의 커서는 생성일 없이 다시 읽힌다")
+    void roundTripsMissingCreatedAt() {
+        QuotationHistoryCursor cursor = new QuotationHistoryCursor(null, ID);
+
+        assertThat(QuotationHistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("견적서의 생성일과 id 로 커서를 만든다")
+    void createsCursorFromQuotation() {
+        Quotation quotation = Quotation.builder().id(ID).build();
+        quotation.prePersist();
+
+        QuotationHistoryCursor cursor = QuotationHistoryCursor.of(quotation);
+
+        assertThat(cursor.createdAt()).isEqualTo(quotation.getCreatedAt());
+        assertThat(cursor.id()).isEqualTo(ID);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "a+b/c="})
+    @DisplayName("Base64 URL 형식이 아닌 커서는 유효하지 않은 커서 오류로 처리한다")
+    void rejectsNonBase64Cursor(String cursor) {
+        assertInvalidCursor(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-separator", "2024-05-01T10:00|", "not-a-date|" + ID, "|"})
+    @DisplayName("구분자, id, 생성일 형식이 잘못된 커서는 유효하지 않은 커서 오류로 처리한다")
+    void rejectsMalformedCursorValue(String value) {
+        assertInvalidCursor(Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void assertInvalidCursor(String cursor) {
+        assertThatThrownBy(() -> QuotationHistoryCursor.decode(cursor))
+            .isInstanceOfSatisfying(QuotationHandler.class,
+                e -> assertThat(e.getCode()).isEqualTo(ErrorStatus.QUOTATION_INVALID_CURSOR));
+    }
+}
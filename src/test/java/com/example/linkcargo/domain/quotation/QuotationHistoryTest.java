@@ -0,0 +1,127 @@
+package com.example.linkcargo.domain.quotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.linkcargo.domain.quotation.dto.response.QuotationHistoryResponse;
+import com.example.linkcargo.domain.quotation.dto.response.QuotationInfoResponse;
+import com.example.linkcargo.domain.schedule.Schedule;
+import com.example.linkcargo.domain.schedule.ScheduleRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 견적서 이력 커서 페이징을 실제 Mongo 에서 확인한다. 생성일이 같은 견적서와 생성일이 없는 견적서가 페이지 경계에 걸쳐도 빠지거나
+ * 중복되지 않아야 한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QuotationHistoryTest {
+
+    private static final Long CONSIGNOR_ID = 7L;
+    private static final LocalDateTime EARLIER = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final LocalDateTime SAME = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private static final LocalDateTime LATER = LocalDateTime.of(2024, 5, 1, 11, 0);
+
+    // (생성일, id) 역순, 생성일이 없는 견적서는 마지막
+    private static final List<String> EXPECTED_ORDER = List.of(
+        "q-08",
+        "q-05", "q-04", "q-03", "q-02", "q-01",
+        "q-07", "q-06",
+        "q-10", "q-09");
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private QuotationService quotationService;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "linkcargo-test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(Quotation.class);
+
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findAllWithPortsByIdIn(anyCollection()))
+            .thenReturn(List.of(Schedule.builder().id(1L).carrier("CARRIER").transitTime(14).build()));
+        quotationService = new QuotationService(null, null, scheduleRepository, null,
+            new QuotationRevisionAssembler(null), mongoTemplate, 500, 100);
+
+        // 입력 순서가 정렬 순서와 다르도록 섞어서 저장
+        insert("q-03", CONSIGNOR_ID, SAME);
+        insert("q-09", CONSIGNOR_ID, null);
+        insert("q-06", CONSIGNOR_ID, EARLIER);
+        insert("q-01", CONSIGNOR_ID, SAME);
+        insert("q-08", CONSIGNOR_ID, LATER);
+        insert("q-05", CONSIGNOR_ID, SAME);
+        insert("q-10", CONSIGNOR_ID, null);
+        insert("q-02", CONSIGNOR_ID, SAME);
+        insert("q-07", CONSIGNOR_ID, EARLIER);
+        insert("q-04", CONSIGNOR_ID, SAME);
+        insert("other", 8L, SAME);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5})
+    @DisplayName("페이지 크기와 관계없이 (생성일, id) 역순으로 빠짐없이 한 번씩 조회한다")
+    void pagesWithoutGapsOrDuplicates(int size) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            QuotationHistoryResponse response = quotationService.findQuotationHistory(CONSIGNOR_ID, cursor, size,
+                null, null);
+            response.quotations().stream().map(QuotationInfoResponse::quotationId).forEach(ids::add);
+            assertThat(response.hasNext()).isEqualTo(response.nextCursor() != null);
+            cursor = response.nextCursor();
+            pages++;
+        } while (cursor != null && pages <= EXPECTED_ORDER.size());
+
+        assertThat(ids).containsExactlyElementsOf(EXPECTED_ORDER);
+    }
+
+    private static void insert(String id, Long consignorId, LocalDateTime createdAt) {
+        Quotation quotation = Quotation.builder()
+            .id(id)
+            .consignorId(String.valueOf(consignorId))
+            .quotationStatus(QuotationStatus.BASIC_INFO)
+            .freight(Quotation.Freight.builder().scheduleId("1").build())
+            .build();
+        Document document = new Document();
+        mongoTemplate.getConverter().write(quotation, document);
+        // 생성일은 저장 시점에 정해지므로 같은 값, 빈 값을 만들려고 문서에 직접 쓴다 (매핑과 같은 시간대로 변환)
+        if (createdAt != null) {
+            document.put("created_at", Date.from(createdAt.atZone(ZoneId.systemDefault()).toInstant()));
+        }
+        mongoTemplate.getCollection("quotations").insertOne(document);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.linkcargo.domain.quotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class QuotationTotalCostMappingTest {
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        // Spring Boot 기본 설정과 같은 변환 규칙
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("총 비용은 자릿수와 관계없이 숫자(Decimal128)로 저장되어 숫자 순서로 정렬된다")
+    void storesTotalCostAsDecimal128() {
+        List<String> costs = List.of("9.5", "85", "120", "1000.25", "25000", "300");
+
+        List<BigDecimal> storedInOrder = costs.stream()
+            .map(this::storedTotalCost)
+            .peek(stored -> assertThat(stored).isInstanceOf(Decimal128.class))
+            .map(stored -> ((Decimal128) stored).bigDecimalValue())
+            .sorted()
+            .toList();
+
+        // 문자열이었다면 "1000.25" < "120" < "25000" < "300" < "85" < "9.5"
+        assertThat(storedInOrder).extracting(BigDecimal::toPlainString)
+            .containsExactly("9.5", "85", "120", "300", "1000.25", "25000");
+        assertThat(costs.stream().sorted(Comparator.naturalOrder()).findFirst()).contains("1000.25");
+    }
+
+    @Test
+    @DisplayName("변환 전 문자열로 저장된 총 비용도 그대로 읽는다")
+    void readsLegacyStringTotalCost() {
+        Document legacy = new Document("_id", "legacy")
+            .append("cost", new Document("totalCost", "1000.25"));
+
+        Quotation quotation = converter.read(Quotation.class, legacy);
+
+        assertThat(quotation.getCost().getTotalCost()).isEqualByComparingTo("1000.25");
+    }
+
+    private Object storedTotalCost(String totalCost) {
+        Quotation quotation = Quotation.builder()
+            .id("quotation-" + totalCost)
+            .quotationStatus(QuotationStatus.DETAIL_INFO)
+            .cost(Quotation.Cost.builder().totalCost(new BigDecimal(totalCost)).build())
+            .build();
+        Document document = new Document();
+        converter.write(quotation, document);
+        return Stream.of(document.get("cost", Document.class))
+            .map(cost -> cost.get("totalCost"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.linkcargo.domain.tariff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.linkcargo.domain.tariff.dto.request.TariffRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.util.Set;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TariffRequestTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.byDefaultProvider().configure()
+            .messageInterpolator(new ParameterMessageInterpolator())
+            .buildValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("요율은 컬럼 자릿수(소수점 둘째 자리)까지 허용한다")
+    void acceptsFeesWithinColumnScale() {
+        assertThat(validator.validate(request("6500.55", "250"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("컬럼 자릿수보다 긴 소수 자릿수는 DB 에서 반올림되므로 거부한다")
+    void rejectsFeesBeyondColumnScale() {
+        Set<ConstraintViolation<TariffRequest>> violations = validator.validate(request("6500.555", "250.001"));
+
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+            .containsExactlyInAnyOrder("thcPerCbm", "inspectionFee");
+    }
+
+    private static TariffRequest request(String thcPerCbm, String inspectionFee) {
+        return new TariffRequest(1L, 2L, null,
+            new BigDecimal(thcPerCbm),
+            BigDecimal.valueOf(6500),
+            BigDecimal.valueOf(210),
+            BigDecimal.valueOf(38500),
+            BigDecimal.valueOf(33000),
+            BigDecimal.valueOf(33000),
+            BigDecimal.valueOf(165000),
+            BigDecimal.valueOf(30),
+            new BigDecimal(inspectionFee),
+            new BigDecimal("250.00"));
+    }
+}
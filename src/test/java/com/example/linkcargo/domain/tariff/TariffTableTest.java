@@ -0,0 +1,57 @@
+package com.example.linkcargo.domain.tariff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TariffTableTest {
+
+    @Test
+    @DisplayName("같은 조건의 요율이 중복되면 입력 순서와 관계없이 나중에 저장된 항목을 사용한다")
+    void mergesDuplicateKeysDeterministically() {
+        Tariff older = tariff(10L, 1L, 2L, null, "1000");
+        Tariff newer = tariff(11L, 1L, 2L, null, "2000");
+        Tariff other = tariff(12L, null, null, 7L, "3000");
+
+        TariffTable forward = TariffTable.of(3L, List.of(older, newer, other));
+        TariffTable backward = TariffTable.of(3L, List.of(other, newer, older));
+
+        assertThat(forward.find(1L, 2L, null).thcPerCbm()).isEqualByComparingTo("2000");
+        assertThat(backward.find(1L, 2L, null).thcPerCbm()).isEqualByComparingTo("2000");
+        assertThat(forward.getRateCards()).hasSize(2);
+        assertThat(forward.find(9L, 9L, 7L).thcPerCbm()).isEqualByComparingTo("3000");
+    }
+
+    @Test
+    @DisplayName("조건 항목이 빈 요율은 * 로 표시한 rate_key 를 가진다")
+    void rateKeyUsesWildcardForEmptyColumns() {
+        Tariff tariff = tariff(null, 1L, null, null, "1000");
+
+        tariff.assignRateKey();
+
+        assertThat(tariff.getRateKey()).isEqualTo("1:*:*");
+    }
+
+    private static Tariff tariff(Long id, Long exportPortId, Long importPortId, Long forwarderId, String thcPerCbm) {
+        return Tariff.builder()
+            .id(id)
+            .version(3L)
+            .exportPortId(exportPortId)
+            .importPortId(importPortId)
+            .forwarderId(forwarderId)
+            .thcPerCbm(new BigDecimal(thcPerCbm))
+            .cfsChargePerCbm(BigDecimal.ZERO)
+            .wharfageFeePerCbm(BigDecimal.ZERO)
+            .documentFee(BigDecimal.ZERO)
+            .handlingFee(BigDecimal.ZERO)
+            .customsClearanceFee(BigDecimal.ZERO)
+            .domesticTrucking(BigDecimal.ZERO)
+            .amsFee(BigDecimal.ZERO)
+            .inspectionFee(BigDecimal.ZERO)
+            .overseaTrucking(BigDecimal.ZERO)
+            .build();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.linkcargo.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.linkcargo.domain.cargo.Cargo;
+import com.example.linkcargo.domain.cargo.CargoRepository;
+import com.example.linkcargo.domain.quotation.Quotation;
+import com.example.linkcargo.domain.quotation.QuotationRepository;
+import com.example.linkcargo.domain.quotation.QuotationStatus;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 선언된 인덱스로 주요 리포지토리 조회가 컬렉션 전체 스캔(COLLSCAN) 없이 실행되는지 실제 Mongo 의 explain 으로 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MongoIndexVerifierTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    // 리포지토리가 실제로 보낸 find 명령
+    private static final List<BsonDocument> FIND_COMMANDS = new CopyOnWriteArrayList<>();
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private QuotationRepository quotationRepository;
+    private CargoRepository cargoRepository;
+
+    @BeforeAll
+    static void connect() {
+        CommandListener findCommandListener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                if (event.getCommandName().equals("find")) {
+                    FIND_COMMANDS.add(event.getCommand().clone());
+                }
+            }
+        };
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+            .applyConnectionString(new ConnectionString(MONGO.getConnectionString()))
+            .addCommandListener(findCommandListener)
+            .build());
+        mongoTemplate = new MongoTemplate(mongoClient, "linkcargo-test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.dropCollection(Quotation.class);
+        mongoTemplate.dropCollection(Cargo.class);
+
+        MongoRepositoryFactory repositoryFactory = new MongoRepositoryFactory(mongoTemplate);
+        quotationRepository = repositoryFactory.getRepository(QuotationRepository.class);
+        cargoRepository = repositoryFactory.getRepository(CargoRepository.class);
+        mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Quotation.class);
+        mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Cargo.class);
+    }
+
+    @Test
+    @DisplayName("화주의 같은 스케줄 견적서 확인은 인덱스로 조회한다")
+    void existsByConsignorAndScheduleUsesIndex() {
+        createIndexesAndSampleData();
+
+        quotationRepository.existsByConsignorIdAndFreight_ScheduleId("1", "1");
+
+        assertNoCollectionScan(lastFindCommand());
+    }
+
+    @Test
+    @DisplayName("원본 견적서별 상태 조회는 인덱스로 조회한다")
+    void findByOriginalQuotationAndStatusUsesIndex() {
+        createIndexesAndSampleData();
+
+        quotationRepository.findQuotationsByOriginalQuotationIdAndQuotationStatus("original-1",
+            QuotationStatus.DETAIL_INFO);
+
+        assertNoCollectionScan(lastFindCommand());
+    }
+
+    @Test
+    @DisplayName("id 또는 원본 견적서 조회($or)는 두 분기 모두 인덱스로 조회한다")
+    void findDetailsByIdOrOriginalQuotationUsesIndex() {
+        createIndexesAndSampleData();
+
+        quotationRepository.findDetailsByIdOrOriginalQuotationId("original-1");
+
+        assertNoCollectionScan(lastFindCommand());
+    }
+
+    @Test
+    @DisplayName("내 화물 목록은 수정일 정렬 방향과 관계없이 인덱스로 조회한다")
+    void findCargosByUserUsesIndex() {
+        createIndexesAndSampleData();
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            cargoRepository.findAllByUserId(1L, PageRequest.of(0, 10, Sort.by(direction, "updatedAt")));
+
+            assertNoCollectionScan(lastFindCommand());
+        }
+    }
+
+    @Test
+    @DisplayName("CREATE 모드는 이름은 같고 키가 다른 인덱스를 다시 만든다")
+    void recreatesIndexWithDifferentKeys() {
+        mongoTemplate.getCollection("cargos").createIndex(new Document("userId", 1),
+            new IndexOptions().name("user_updated_at"));
+
+        new MongoIndexVerifier(mongoTemplate, MongoIndexVerifier.Mode.CREATE).verifyIndexes();
+
+        IndexInfo index = mongoTemplate.indexOps(Cargo.class).getIndexInfo().stream()
+            .filter(indexInfo -> indexInfo.getName().equals("user_updated_at"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(index.getIndexFields()).extracting(field -> field.getKey() + ":" + field.getDirection())
+            .containsExactly("userId:ASC", "updated_at:DESC");
+    }
+
+    @Test
+    @DisplayName("VALIDATE 모드는 이름은 같고 키가 다른 인덱스가 있으면 시작을 중단한다")
+    void rejectsIndexWithDifferentKeys() {
+        new MongoIndexVerifier(mongoTemplate, MongoIndexVerifier.Mode.CREATE).verifyIndexes();
+        mongoTemplate.indexOps(Cargo.class).dropIndex("user_updated_at");
+        mongoTemplate.getCollection("cargos").createIndex(new Document("updated_at", -1).append("userId", 1),
+            new IndexOptions().name("user_updated_at"));
+
+        assertThatThrownBy(() -> new MongoIndexVerifier(mongoTemplate, MongoIndexVerifier.Mode.VALIDATE).verifyIndexes())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("mismatched=[cargos.user_updated_at");
+    }
+
+    private void createIndexesAndSampleData() {
+        new MongoIndexVerifier(mongoTemplate, MongoIndexVerifier.Mode.CREATE).verifyIndexes();
+
+        for (int index = 0; index < 20; index++) {
+            mongoTemplate.insert(Quotation.builder()
+                .id("quotation-" + index)
+                .consignorId(String.valueOf(index % 3))
+                .originalQuotationId("original-" + index % 4)
+                .quotationStatus(QuotationStatus.DETAIL_INFO)
+                .freight(Quotation.Freight.builder().scheduleId(String.valueOf(index % 5)).build())
+                .build());
+            mongoTemplate.insert(Cargo.builder()
+                .id("cargo-" + index)
+                .userId((long) index % 3)
+                .build());
+        }
+        FIND_COMMANDS.clear();
+    }
+
+    private BsonDocument lastFindCommand() {
+        assertThat(FIND_COMMANDS).isNotEmpty();
+        return FIND_COMMANDS.get(FIND_COMMANDS.size() - 1);
+    }
+
+    // 세션, 읽기 설정 같은 부가 필드를 빼고 조회 조건만 explain 한다
+    private void assertNoCollectionScan(BsonDocument findCommand) {
+        Document command = new Document("find", findCommand.getString("find").getValue());
+        for (String key : List.of("filter", "projection", "sort", "skip", "limit")) {
+            if (findCommand.containsKey(key)) {
+                command.append(key, findCommand.get(key));
+            }
+        }
+
+        Document explain = mongoTemplate.getDb().runCommand(
+            new Document("explain", command).append("verbosity", "queryPlanner"));
+        Object winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan");
+
+        assertThat(stagesOf(winningPlan)).as("winningPlan of %s", command.toJson())
+            .isNotEmpty()
+            .doesNotContain("COLLSCAN");
+    }
+
+    // winningPlan 은 버전(클래식, SBE)에 따라 중첩 구조가 달라 모든 stage 를 재귀로 모은다
+    private List<String> stagesOf(Object plan) {
+        if (plan instanceof Document document) {
+            List<String> stages = new ArrayList<>();
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            document.values().forEach(value -> stages.addAll(stagesOf(value)));
+            return stages;
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().flatMap(value -> stagesOf(value).stream()).toList();
+        }
+        return List.of();
+    }
+}